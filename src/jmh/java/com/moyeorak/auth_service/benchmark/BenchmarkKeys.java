@@ -0,0 +1,65 @@
+package com.moyeorak.auth_service.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moyeorak.auth_service.security.JwtProvider;
+import com.moyeorak.auth_service.security.KeyRing;
+import com.moyeorak.auth_service.security.TokenRevocationList;
+import com.moyeorak.auth_service.security.VerifiedTokenCache;
+import com.moyeorak.auth_service.security.WellKnownDocuments;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.util.Base64;
+
+// 벤치마크용 임시 키 디렉터리 + JwtProvider 조립 (스프링 컨텍스트 없이)
+final class BenchmarkKeys {
+
+    private BenchmarkKeys() {
+    }
+
+    // algorithm: RS256 | ES256
+    static Path createKeyDir(String algorithm) throws Exception {
+        KeyPairGenerator generator;
+        if ("ES256".equals(algorithm)) {
+            generator = KeyPairGenerator.getInstance("EC");
+            generator.initialize(256);
+        } else {
+            generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(2048);
+        }
+        KeyPair pair = generator.generateKeyPair();
+
+        Path dir = Files.createTempDirectory("jwt-bench");
+        Files.writeString(dir.resolve("bench.private.pem"), pem("PRIVATE KEY", pair.getPrivate().getEncoded()));
+        Files.writeString(dir.resolve("bench.public.pem"), pem("PUBLIC KEY", pair.getPublic().getEncoded()));
+        Files.writeString(dir.resolve("active-kid"), "bench");
+        return dir;
+    }
+
+    static KeyRing keyRing(Path keyDir, VerifiedTokenCache cache, WellKnownDocuments documents) throws Exception {
+        KeyRing keyRing = new KeyRing(cache, documents, keyDir.toString(), "bench", "", "");
+        keyRing.init();
+        return keyRing;
+    }
+
+    static VerifiedTokenCache verifiedTokenCache(boolean enabled) {
+        return new VerifiedTokenCache(enabled, 10_000, new SimpleMeterRegistry());
+    }
+
+    static WellKnownDocuments wellKnownDocuments() {
+        return new WellKnownDocuments(new ObjectMapper(), 300);
+    }
+
+    static JwtProvider jwtProvider(KeyRing keyRing, VerifiedTokenCache cache) {
+        return new JwtProvider(keyRing, cache, new TokenRevocationList(), new SimpleMeterRegistry());
+    }
+
+    private static String pem(String type, byte[] der) {
+        String body = Base64.getMimeEncoder(64, "\n".getBytes(StandardCharsets.US_ASCII)).encodeToString(der);
+        return "-----BEGIN " + type + "-----\n" + body + "\n-----END " + type + "-----\n";
+    }
+}
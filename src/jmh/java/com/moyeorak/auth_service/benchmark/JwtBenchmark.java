@@ -0,0 +1,99 @@
+package com.moyeorak.auth_service.benchmark;
+
+import com.moyeorak.auth_service.security.JwtProvider;
+import com.moyeorak.auth_service.security.KeyRing;
+import com.moyeorak.auth_service.security.VerifiedTokenCache;
+import com.moyeorak.auth_service.security.WellKnownDocuments;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+// 토큰 발급 / 검증 / 클레임 조회 / JWKS 렌더링
+// ./gradlew jmh -PjmhIncludes=JwtBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtBenchmark {
+
+    @Param({"RS256", "ES256"})
+    public String algorithm;
+
+    // false면 매번 서명 검증 (캐시 미적용 경로)
+    @Param({"false", "true"})
+    public boolean verifyCache;
+
+    private KeyRing keyRing;
+    private WellKnownDocuments documents;
+    private JwtProvider jwtProvider;
+    private String accessToken;
+
+    @Setup
+    public void setUp() throws Exception {
+        VerifiedTokenCache cache = BenchmarkKeys.verifiedTokenCache(verifyCache);
+        documents = BenchmarkKeys.wellKnownDocuments();
+        keyRing = BenchmarkKeys.keyRing(BenchmarkKeys.createKeyDir(algorithm), cache, documents);
+        jwtProvider = BenchmarkKeys.jwtProvider(keyRing, cache);
+        accessToken = jwtProvider.generateToken("bench@moyeorak.cloud", 1L, "USER", 11L);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        keyRing.stop();
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtProvider.generateToken("bench@moyeorak.cloud", 1L, "USER", 11L);
+    }
+
+    @Benchmark
+    public String generateRefreshToken() {
+        return jwtProvider.generateRefreshToken("bench@moyeorak.cloud", 1L, "bench-session");
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtProvider.validateToken(accessToken);
+    }
+
+    @Benchmark
+    public Long getUserId() {
+        return jwtProvider.getUserId(accessToken);
+    }
+
+    @Benchmark
+    public String getRole() {
+        return jwtProvider.getRole(accessToken);
+    }
+
+    @Benchmark
+    public String getEmail() {
+        return jwtProvider.getEmail(accessToken);
+    }
+
+    @Benchmark
+    public Long getRegionId() {
+        return jwtProvider.getRegionId(accessToken);
+    }
+
+    // 키 교체 시 문서 재생성 비용
+    @Benchmark
+    public WellKnownDocuments.Document renderJwks() {
+        documents.refresh(keyRing.getPublishedKeys());
+        return documents.getJwks();
+    }
+
+    // 요청마다 응답 객체 생성 비용 (직렬화는 미리 되어 있음)
+    @Benchmark
+    public Object serveJwks() {
+        return documents.getJwks().toResponse();
+    }
+}
@@ -0,0 +1,141 @@
+package com.moyeorak.auth_service.benchmark;
+
+import com.moyeorak.auth_service.dto.UserLoginRequestDto;
+import com.moyeorak.auth_service.entity.User;
+import com.moyeorak.auth_service.repository.InMemoryRefreshTokenStore;
+import com.moyeorak.auth_service.repository.ReadYourWrites;
+import com.moyeorak.auth_service.repository.TokenRevocationRepository;
+import com.moyeorak.auth_service.repository.UserCache;
+import com.moyeorak.auth_service.repository.UserCredentials;
+import com.moyeorak.auth_service.repository.UserRepository;
+import com.moyeorak.auth_service.security.JwtProvider;
+import com.moyeorak.auth_service.security.KeyRing;
+import com.moyeorak.auth_service.security.LoginThrottle;
+import com.moyeorak.auth_service.security.TokenRevocationFeed;
+import com.moyeorak.auth_service.security.TokenRevocationList;
+import com.moyeorak.auth_service.security.VerifiedTokenCache;
+import com.moyeorak.auth_service.service.AuthServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+// 로그인 실패 응답 시간 분포: 있는 계정(비밀번호 불일치) vs 없는 계정 - 두 분포가 겹쳐야 함
+// ./gradlew jmh -PjmhIncludes=LoginBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LoginBenchmark {
+
+    private static final String EXISTING_EMAIL = "member@moyeorak.cloud";
+
+    @Param({"existing", "unknown"})
+    public String account;
+
+    private KeyRing keyRing;
+    private AuthServiceImpl authService;
+    private UserLoginRequestDto request;
+
+    @Setup
+    public void setUp() throws Exception {
+        PasswordEncoder passwordEncoder = new BCryptPasswordEncoder(10);
+        UserCredentials member = UserCredentials.builder()
+                .id(1L)
+                .email(EXISTING_EMAIL)
+                .password(passwordEncoder.encode("correct-password"))
+                .role(User.Role.USER)
+                .regionId(11L)
+                .build();
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        UserRepository userRepository = userRepository(member);
+        VerifiedTokenCache cache = BenchmarkKeys.verifiedTokenCache(true);
+        keyRing = BenchmarkKeys.keyRing(BenchmarkKeys.createKeyDir("RS256"), cache, BenchmarkKeys.wellKnownDocuments());
+        JwtProvider jwtProvider = BenchmarkKeys.jwtProvider(keyRing, cache);
+
+        authService = new AuthServiceImpl(
+                userRepository,
+                new UserCache(userRepository, new ReadYourWrites(10), true, 10_000, 300, meterRegistry),
+                new InMemoryRefreshTokenStore(64),
+                passwordEncoder,
+                jwtProvider,
+                new TokenRevocationFeed(unsupported(TokenRevocationRepository.class), new TokenRevocationList(), 5),
+                new LoginThrottle((key, capacity, refillMillis) -> 0, false, 0, 0, 0, 0, meterRegistry),
+                meterRegistry,
+                new TransactionTemplate(new NoOpTransactionManager()));
+
+        String email = "existing".equals(account) ? EXISTING_EMAIL : "nobody@moyeorak.cloud";
+        request = new UserLoginRequestDto(email, "wrong-password");
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        keyRing.stop();
+    }
+
+    @Benchmark
+    public Object failedLogin() {
+        try {
+            return authService.login(request, "10.0.0.1");
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    // 이메일 조회만 응답하는 UserRepository (DB 없이)
+    private static UserRepository userRepository(UserCredentials member) {
+        return (UserRepository) Proxy.newProxyInstance(UserRepository.class.getClassLoader(),
+                new Class<?>[]{UserRepository.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "findCredentialsByEmail" -> member.getEmail().equals(args[0]) ? Optional.of(member) : Optional.empty();
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "BenchmarkUserRepository";
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    // DB 없이 트랜잭션 경계만 (로그인은 조회 / 재해시 갱신만 짧은 트랜잭션)
+    private static class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+
+    // 로그인 경로에서 쓰지 않는 의존성 (호출되면 실패)
+    private static <T> T unsupported(Class<T> type) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> {
+                    throw new UnsupportedOperationException(method.getName());
+                }));
+    }
+}
@@ -0,0 +1,72 @@
+package com.moyeorak.auth_service.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * primary 풀(spring.datasource.*) + 선택적 read replica 라우팅
+ * - 커넥션은 첫 쿼리 때 가져옴 (LazyConnectionDataSourceProxy): 캐시로 끝나는 트랜잭션은 커넥션을 잡지 않음
+ * - auth.datasource.replica-urls 가 있을 때만 ReplicaRoutingDataSource 사용
+ */
+@Slf4j
+@Configuration
+public class DataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    // replica 풀은 primary 설정(계정 / 드라이버 속성)을 복사하고 URL / 크기만 바꿈
+    @Bean(destroyMethod = "close")
+    @ConditionalOnExpression("!'${auth.datasource.replica-urls:}'.isBlank()")
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+                                                             @Value("${auth.datasource.replica-urls}") List<String> replicaUrls,
+                                                             @Value("${auth.datasource.replica-pool-size:10}") int replicaPoolSize,
+                                                             @Value("${auth.datasource.max-replica-lag-seconds:5}") long maxLagSeconds,
+                                                             MeterRegistry meterRegistry) {
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            HikariDataSource replica = new HikariDataSource();
+            primaryDataSource.copyStateTo(replica);
+            replica.setJdbcUrl(replicaUrls.get(i).trim());
+            replica.setPoolName(poolName(primaryDataSource) + "-replica-" + i);
+            replica.setMaximumPoolSize(replicaPoolSize);
+            replica.setMinimumIdle(replicaPoolSize);
+            replica.setReadOnly(true);
+            // replica 가 내려가 있어도 기동은 계속 (지연 확인에서 제외됨)
+            replica.setInitializationFailTimeout(-1);
+            replica.setMetricRegistry(meterRegistry);
+            replicas.add(replica);
+        }
+        log.info("read replica 라우팅 활성화 - replicas: {}", replicas.size());
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, maxLagSeconds, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource,
+                                 ObjectProvider<ReplicaRoutingDataSource> replicaRoutingDataSource) {
+        DataSource target = replicaRoutingDataSource.getIfAvailable();
+        return new LazyConnectionDataSourceProxy(target != null ? target : primaryDataSource);
+    }
+
+    private static String poolName(HikariDataSource dataSource) {
+        return dataSource.getPoolName() != null ? dataSource.getPoolName() : "auth-db";
+    }
+}
@@ -1,15 +1,45 @@
 package com.moyeorak.auth_service.config;
 
+import com.moyeorak.auth_service.security.OffloadingPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.util.HashMap;
+import java.util.Map;
 
 @Configuration
 public class PasswordConfig {
 
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    // BCrypt는 전용 풀에서 실행 (pool-size 0이면 CPU 코어 수)
+    @Bean(destroyMethod = "shutdown")
+    public PasswordEncoder passwordEncoder(@Value("${password.hashing.pool-size:0}") int poolSize,
+                                           @Value("${password.hashing.queue-capacity:64}") int queueCapacity,
+                                           @Value("${password.hashing.retry-after-seconds:1}") long retryAfterSeconds,
+                                           @Value("${password.encoder.id:bcrypt}") String encodeId,
+                                           @Value("${password.encoder.bcrypt-strength:10}") int bcryptStrength,
+                                           MeterRegistry meterRegistry) {
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        return new OffloadingPasswordEncoder(delegatingEncoder(encodeId, bcryptStrength), threads, queueCapacity,
+                retryAfterSeconds, meterRegistry);
+    }
+
+    // 새 해시는 {encodeId} 접두어로 저장. 접두어 없는 기존 해시는 BCrypt로 검증하고,
+    // 로그인 성공 시 upgradeEncoding()이 true면 현재 설정(알고리즘 / cost)으로 다시 저장
+    private static PasswordEncoder delegatingEncoder(String encodeId, int bcryptStrength) {
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put("bcrypt", new BCryptPasswordEncoder(bcryptStrength));
+        encoders.put("argon2", Argon2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+        encoders.put("pbkdf2", Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(encodeId, encoders);
+        encoder.setDefaultPasswordEncoderForMatches(encoders.get("bcrypt"));
+        return encoder;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,146 @@
+package com.moyeorak.auth_service.config;
+
+import com.moyeorak.auth_service.repository.ReadYourWrites;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+ * 읽기 전용 트랜잭션은 replica, 나머지는 primary 로 보내는 DataSource
+ * - LazyConnectionDataSourceProxy 뒤에 두어 첫 쿼리 시점(readOnly 여부가 정해진 뒤)에 라우팅
+ * - ReadYourWrites 로 고정된 트랜잭션은 primary, replica 를 고르면 ReadYourWrites 에 기록
+ * - 복제 지연이 허용치를 넘거나 확인에 실패한 replica 는 제외, 쓸 replica 가 없으면 primary
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final String PRIMARY = "primary";
+
+    private final List<Replica> replicas;
+    private final long maxLagSeconds;
+    private final AtomicInteger next = new AtomicInteger();
+    private final Counter primaryRoutes;
+    private final Counter replicaRoutes;
+    private final Counter fallbackRoutes;
+
+    public ReplicaRoutingDataSource(HikariDataSource primary, List<HikariDataSource> replicaPools,
+                                    long maxLagSeconds, MeterRegistry meterRegistry) {
+        this.replicas = replicaPools.stream().map(Replica::new).toList();
+        this.maxLagSeconds = maxLagSeconds;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (Replica replica : replicas) {
+            targets.put(replica.name, replica.dataSource);
+            Gauge.builder("db.replica.lag", replica, r -> r.lagSeconds)
+                    .tag("replica", replica.name)
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+            Gauge.builder("db.replica.healthy", replica, r -> r.healthy ? 1 : 0)
+                    .tag("replica", replica.name)
+                    .description("1 이면 읽기 전용 트랜잭션 대상, 0 이면 제외")
+                    .register(meterRegistry);
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+
+        this.primaryRoutes = meterRegistry.counter("db.routing", "target", "primary");
+        this.replicaRoutes = meterRegistry.counter("db.routing", "target", "replica");
+        this.fallbackRoutes = meterRegistry.counter("db.routing", "target", "fallback");
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || ReadYourWrites.isPrimaryPinned()) {
+            primaryRoutes.increment();
+            return PRIMARY;
+        }
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.healthy) {
+                replicaRoutes.increment();
+                ReadYourWrites.recordReplicaRead();
+                return replica.name;
+            }
+        }
+        fallbackRoutes.increment();
+        return PRIMARY;
+    }
+
+    // 복제 지연 확인 (MySQL 8.0.22+ SHOW REPLICA STATUS, REPLICATION CLIENT 권한 필요)
+    // 첫 확인 결과와 상태 변화는 항상 로그 (처음부터 제외된 replica 도 드러나게)
+    @Scheduled(fixedDelayString = "${auth.datasource.lag-check-interval-ms:5000}")
+    public void checkReplicationLag() {
+        for (Replica replica : replicas) {
+            boolean firstCheck = !replica.checked;
+            boolean wasHealthy = replica.healthy;
+            try (Connection connection = replica.dataSource.getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery("SHOW REPLICA STATUS")) {
+                if (rs.next()) {
+                    long lag = rs.getLong("Seconds_Behind_Source");
+                    // NULL = 복제 중단
+                    boolean running = !rs.wasNull();
+                    replica.lagSeconds = running ? lag : Double.NaN;
+                    replica.healthy = running && lag <= maxLagSeconds;
+                } else {
+                    // 복제 상태가 없으면 (Aurora reader 등) 지연 측정 불가 - 사용은 허용
+                    replica.lagSeconds = Double.NaN;
+                    replica.healthy = true;
+                }
+            } catch (SQLException e) {
+                replica.lagSeconds = Double.NaN;
+                replica.healthy = false;
+                if (firstCheck || wasHealthy) {
+                    log.warn("replica 상태 확인 실패 - {} 제외 (REPLICATION CLIENT 권한 / MySQL 8.0.22+ 확인): {}",
+                            replica.name, e.getMessage());
+                }
+                replica.checked = true;
+                continue;
+            }
+            replica.checked = true;
+            if (replica.healthy && (firstCheck || !wasHealthy)) {
+                log.info("replica {} - 사용 (lag: {}s)", replica.name, replica.lagSeconds);
+            } else if (!replica.healthy && (firstCheck || wasHealthy)) {
+                log.warn("replica {} - 제외, 복제 지연 초과 또는 중단 (lag: {}s, 허용: {}s)",
+                        replica.name, replica.lagSeconds, maxLagSeconds);
+            }
+        }
+    }
+
+    // primary 풀은 자체 빈으로 종료
+    public void close() {
+        replicas.forEach(replica -> replica.dataSource.close());
+    }
+
+    private static class Replica {
+        private final String name;
+        private final HikariDataSource dataSource;
+        // 첫 지연 확인 전에는 제외
+        private volatile boolean healthy;
+        private volatile boolean checked;
+        private volatile double lagSeconds = Double.NaN;
+
+        Replica(HikariDataSource dataSource) {
+            this.name = dataSource.getPoolName();
+            this.dataSource = dataSource;
+        }
+    }
+}
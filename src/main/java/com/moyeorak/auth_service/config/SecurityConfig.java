@@ -34,6 +34,7 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
                         .requestMatchers(
                                 "/internal/users/**",
+                                "/internal/revocations",
                                 "/api/users/signup",
                                 "/api/auth/login",
                                 "/swagger-ui/**",
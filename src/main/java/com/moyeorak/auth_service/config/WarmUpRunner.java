@@ -0,0 +1,122 @@
+package com.moyeorak.auth_service.config;
+
+import com.moyeorak.auth_service.repository.UserCache;
+import com.moyeorak.auth_service.repository.UserRepository;
+import com.moyeorak.auth_service.repository.UserSnapshot;
+import com.moyeorak.auth_service.security.JwtProvider;
+import com.moyeorak.auth_service.security.VerifiedTokenCache;
+import com.moyeorak.auth_service.service.DuplicateCheckFilter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/*
+ * 기동 직후 워밍업 (JIT / 키 / DB 커넥션 / 인메모리 인덱스)
+ * ApplicationRunner 가 끝난 뒤에 readiness 가 ACCEPTING_TRAFFIC 으로 바뀌므로
+ * /actuator/health/readiness 는 워밍업이 끝나야 UP.
+ * 톰캣 커넥터는 이미 요청을 받고 있고 liveness 도 막지 않으므로,
+ * readiness 를 보지 않는 경로(태스크 포트 직접 호출 등)의 요청은 워밍업 중에도 처리된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WarmUpRunner implements ApplicationRunner {
+
+    private static final int PAGE_SIZE = 1000;
+    private static final String WARM_UP_EMAIL = "warmup@moyeorak.local";
+
+    private final JwtProvider jwtProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final PasswordEncoder passwordEncoder;
+    private final UserRepository userRepository;
+    private final UserCache userCache;
+    private final DuplicateCheckFilter duplicateCheckFilter;
+
+    @Value("${warmup.enabled:true}")
+    private boolean enabled;
+
+    // RSA / EC 연산의 내부 루프는 토큰 수백 개면 C2 컴파일됨, 더 돌리면 작은 태스크에서 기동 시간만 늘어남
+    @Value("${warmup.jwt-iterations:300}")
+    private int jwtIterations;
+
+    @Value("${warmup.password-iterations:10}")
+    private int passwordIterations;
+
+    @Value("${warmup.cached-users:10000}")
+    private int cachedUsers;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.nanoTime();
+
+        // 중복 확인 필터는 워밍업 설정과 관계없이 트래픽 전에 적재
+        duplicateCheckFilter.rebuild();
+
+        if (enabled) {
+            step("JWT", this::warmUpJwt);
+            step("비밀번호 해시", this::warmUpPassword);
+            step("사용자 캐시", this::warmUpUserCache);
+        }
+        log.info("워밍업 완료 - {}ms", elapsedMillis(start));
+    }
+
+    // 서명 / 검증 (토큰마다 userId 를 달리해 검증 캐시를 거치지 않게 함, 음수 id 는 실제 사용자와 겹치지 않음)
+    private void warmUpJwt() {
+        for (int i = 1; i <= jwtIterations; i++) {
+            String accessToken = jwtProvider.generateToken(WARM_UP_EMAIL, (long) -i, "USER", 0L);
+            String refreshToken = jwtProvider.generateRefreshToken(WARM_UP_EMAIL, (long) -i, "warmup");
+            jwtProvider.verify(accessToken);
+            jwtProvider.verify(refreshToken);
+        }
+        verifiedTokenCache.invalidateAll();
+    }
+
+    private void warmUpPassword() {
+        String hash = passwordEncoder.encode("warm-up-password");
+        for (int i = 0; i < passwordIterations; i++) {
+            passwordEncoder.matches("warm-up-password", hash);
+        }
+    }
+
+    // 최근 가입자부터 캐시 크기만큼 페이지 단위로 적재
+    private void warmUpUserCache() {
+        Long beforeId = Long.MAX_VALUE;
+        int loaded = 0;
+        List<UserSnapshot> page;
+        do {
+            int size = Math.min(PAGE_SIZE, cachedUsers - loaded);
+            if (size <= 0) {
+                break;
+            }
+            Long before = beforeId;
+            page = userCache.preload(() -> userRepository.findSnapshotsBefore(before, PageRequest.of(0, size)));
+            if (!page.isEmpty()) {
+                beforeId = page.get(page.size() - 1).getId();
+            }
+            loaded += page.size();
+        } while (page.size() == PAGE_SIZE);
+        log.debug("사용자 캐시 적재 - {}명", loaded);
+    }
+
+    // 단계별 실패는 기동을 막지 않음
+    private void step(String name, Runnable warmUp) {
+        long start = System.nanoTime();
+        try {
+            warmUp.run();
+            log.info("워밍업 [{}] - {}ms", name, elapsedMillis(start));
+        } catch (RuntimeException e) {
+            log.warn("워밍업 [{}] 실패 - 건너뜀", name, e);
+        }
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+}
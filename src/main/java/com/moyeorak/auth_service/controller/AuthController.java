@@ -4,9 +4,11 @@ import com.moyeorak.auth_service.dto.TokenRefreshRequestDto;
 import com.moyeorak.auth_service.dto.TokenResponseDto;
 import com.moyeorak.auth_service.dto.UserLoginRequestDto;
 import com.moyeorak.auth_service.dto.UserLoginResponseDto;
+import com.moyeorak.auth_service.security.ClientIpResolver;
 import com.moyeorak.auth_service.security.CustomUserDetails;
 import com.moyeorak.auth_service.service.AuthService;
 import io.swagger.v3.oas.annotations.Operation;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -21,12 +23,14 @@ import org.springframework.web.bind.annotation.*;
 public class AuthController {
 
     private final AuthService authService;
+    private final ClientIpResolver clientIpResolver;
 
     @Operation(summary = "로그인")
     @PostMapping("/login")
-    public ResponseEntity<UserLoginResponseDto> login(@Valid @RequestBody UserLoginRequestDto dto) {
+    public ResponseEntity<UserLoginResponseDto> login(@Valid @RequestBody UserLoginRequestDto dto,
+                                                      HttpServletRequest request) {
         log.info("로그인 요청 진입 - email: {}", dto.getEmail());
-        UserLoginResponseDto response = authService.login(dto);
+        UserLoginResponseDto response = authService.login(dto, clientIpResolver.resolve(request));
         log.info("로그인 완료");
         return ResponseEntity.ok(response);
     }
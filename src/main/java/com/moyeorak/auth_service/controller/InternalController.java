@@ -1,29 +1,60 @@
 package com.moyeorak.auth_service.controller;
 
+import com.moyeorak.auth_service.dto.feign.RevocationFeedDto;
+import com.moyeorak.auth_service.dto.feign.UserBatchRequestDto;
+import com.moyeorak.auth_service.dto.feign.UserBatchResponseDto;
 import com.moyeorak.auth_service.dto.feign.UserDto;
 import com.moyeorak.auth_service.entity.User;
 import com.moyeorak.auth_service.repository.UserRepository;
+import com.moyeorak.auth_service.security.TokenRevocationFeed;
 import com.moyeorak.auth_service.service.UserService;
 import com.moyeorak.common.exception.BusinessException;
 import com.moyeorak.common.exception.ErrorCode;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.Instant;
+
 @Slf4j
 @RestController
-@RequestMapping("/internal/users")
+@RequestMapping("/internal")
 @RequiredArgsConstructor
 public class InternalController {
 
     private final UserService userService;
+    private final TokenRevocationFeed revocationFeed;
 
-    @GetMapping("/{id}")
+    @GetMapping("/users/{id}")
     public UserDto getUserById(@PathVariable Long id) {
         log.info("내부 사용자 조회 요청 - userId={}", id);
         return userService.getUserDtoById(id);
     }
+
+    // 목록 화면용 일괄 조회 (N번의 단건 호출 대신 1회)
+    @PostMapping("/users/batch")
+    public UserBatchResponseDto getUsersByIds(@Valid @RequestBody UserBatchRequestDto dto) {
+        log.info("내부 사용자 일괄 조회 요청 - {}건", dto.getIds().size());
+        return userService.getUserDtosByIds(dto.getIds());
+    }
+
+    // 게이트웨이가 주기적으로 폴링 (since = 직전 응답의 cursor, 최초 0 이면 전체)
+    // DB 기준이라 어느 노드가 응답해도 같은 커서를 이어 쓸 수 있음
+    @GetMapping("/revocations")
+    public RevocationFeedDto getRevocations(@RequestParam(defaultValue = "0") long since) {
+        long cursor = Instant.now().getEpochSecond();
+        return RevocationFeedDto.builder()
+                .cursor(cursor)
+                .revocations(revocationFeed.changesSince(since).stream()
+                        .map(r -> new RevocationFeedDto.Entry(r.getUserId(), r.getNotBefore()))
+                        .toList())
+                .build();
+    }
 }
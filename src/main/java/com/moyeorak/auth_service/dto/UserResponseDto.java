@@ -1,6 +1,7 @@
 package com.moyeorak.auth_service.dto;
 
 import com.moyeorak.auth_service.entity.User;
+import com.moyeorak.auth_service.repository.UserSnapshot;
 import lombok.*;
 
 @Getter
@@ -25,4 +26,15 @@ public class UserResponseDto {
                 .regionId(user.getRegionId())
                 .build();
     }
+
+    public static UserResponseDto from(UserSnapshot user) {
+        return UserResponseDto.builder()
+                .id(user.getId())
+                .email(user.getEmail())
+                .name(user.getName())
+                .phone(user.getPhone())
+                .gender(user.getGender())
+                .regionId(user.getRegionId())
+                .build();
+    }
 }
@@ -0,0 +1,24 @@
+package com.moyeorak.auth_service.dto.feign;
+
+import lombok.*;
+
+import java.util.List;
+
+// 게이트웨이 폴링용 Access Token 폐기 피드 (다음 요청 시 cursor 를 since 로 전달)
+// cursor 는 epoch seconds. 경계 부근 항목은 다음 응답에 다시 올 수 있으므로 userId 별로 더 늦은 notBefore 만 유지
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class RevocationFeedDto {
+    private long cursor;
+    private List<Entry> revocations;
+
+    @Getter
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Entry {
+        private long userId;
+        private long notBefore; // epoch seconds, 이 시각 이전 iat 토큰은 무효
+    }
+}
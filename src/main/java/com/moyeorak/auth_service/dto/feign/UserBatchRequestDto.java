@@ -0,0 +1,21 @@
+package com.moyeorak.auth_service.dto.feign;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserBatchRequestDto {
+
+    public static final int MAX_IDS = 500;
+
+    @NotEmpty(message = "조회할 사용자 id를 입력해주세요.")
+    @Size(max = MAX_IDS, message = "한 번에 최대 500명까지 조회할 수 있습니다.")
+    private List<@NotNull Long> ids;
+}
@@ -0,0 +1,15 @@
+package com.moyeorak.auth_service.dto.feign;
+
+import lombok.*;
+
+import java.util.List;
+
+// users 는 요청 id 순서 (중복 제거), 존재하지 않는 id 는 missingIds 로 반환
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class UserBatchResponseDto {
+    private List<UserDto> users;
+    private List<Long> missingIds;
+}
@@ -0,0 +1,70 @@
+package com.moyeorak.auth_service.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.domain.Persistable;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+// 발급된 Refresh Token (원문 대신 SHA-256 digest를 PK로 저장)
+@Entity
+@Table(name = "refresh_tokens", indexes = {
+        @Index(name = "idx_refresh_tokens_user_session", columnList = "user_id, session_id"),
+        @Index(name = "idx_refresh_tokens_expires_at", columnList = "expires_at")
+})
+@EntityListeners(AuditingEntityListener.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class RefreshToken implements Persistable<String> {
+
+    @Id
+    @Column(name = "token_hash", length = 64)
+    private String tokenHash;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    // 로그인 단위 세션 (기기별로 따로 발급). 교체되며 이어진 토큰들의 family id
+    @Column(name = "session_id", nullable = false, length = 36)
+    private String sessionId;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    // 새 토큰으로 교체된 시각 (재사용 탐지용으로 만료 시까지 보관)
+    @Column(name = "rotated_at")
+    private Instant rotatedAt;
+
+    @CreatedDate
+    private LocalDateTime createdAt;
+
+    // PK를 직접 지정하므로 save() 시 merge 전 SELECT가 나가지 않도록 신규 여부를 직접 관리
+    @Transient
+    @Builder.Default
+    private boolean isNew = true;
+
+    @Override
+    public String getId() {
+        return tokenHash;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
@@ -0,0 +1,23 @@
+package com.moyeorak.auth_service.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// 사용자별 Access Token 폐기 시각 (노드 간 공유, 게이트웨이 피드의 원본)
+@Entity
+@Table(name = "token_revocations", indexes = {
+        @Index(name = "idx_token_revocations_not_before", columnList = "not_before")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class TokenRevocation {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    // epoch seconds, 이 시각 이전 iat 토큰은 무효
+    @Column(name = "not_before", nullable = false)
+    private long notBefore;
+}
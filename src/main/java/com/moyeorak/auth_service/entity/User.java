@@ -10,6 +10,9 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_user_updated_at", columnList = "updated_at")
+})
 @EntityListeners(AuditingEntityListener.class)
 @Getter
 @Setter
@@ -59,9 +62,6 @@ public class User {
     @LastModifiedDate
     private LocalDateTime updatedAt;
 
-    @Column(name = "refresh_token", columnDefinition = "TEXT")
-    private String refreshToken;
-
     @Column(name = "region_id")
     private Long regionId;
 }
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.moyeorak.auth_service.exception;
+
+import lombok.Getter;
+
+// 처리 용량 초과 → 503 Service Unavailable + Retry-After
+@Getter
+public class ServiceBusyException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceBusyException(long retryAfterSeconds) {
+        super("요청이 많아 잠시 후 다시 시도해주세요.");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
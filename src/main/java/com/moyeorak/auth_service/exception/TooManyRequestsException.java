@@ -0,0 +1,15 @@
+package com.moyeorak.auth_service.exception;
+
+import lombok.Getter;
+
+// 시도 횟수 제한 초과 → 429 Too Many Requests + Retry-After
+@Getter
+public class TooManyRequestsException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(long retryAfterSeconds) {
+        super("시도 횟수가 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
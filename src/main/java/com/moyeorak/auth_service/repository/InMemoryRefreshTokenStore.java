@@ -0,0 +1,138 @@
+package com.moyeorak.auth_service.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/*
+ * 프로세스 내 Refresh Token 저장소. DB 왕복 / 행 잠금 없이 조회·교체.
+ * userId 기준으로 샤드를 나누고 샤드 단위로만 잠그므로 사용자 간 경합이 없다.
+ * 만료 토큰은 조회 시 무시하고 주기적으로 정리한다.
+ * 재시작 시 세션이 사라지고 노드 간 공유되지 않으므로 다중 노드에서는 redis 를 사용.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "auth.refresh-token.store", havingValue = "memory")
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+    private final Shard[] shards;
+
+    public InMemoryRefreshTokenStore(@Value("${auth.refresh-token.memory.shards:64}") int shardCount) {
+        this.shards = new Shard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard();
+        }
+        log.info("인메모리 Refresh Token 저장소 사용 - shards: {}", shardCount);
+    }
+
+    @Override
+    public void save(RefreshTokenRecord record) {
+        Shard shard = shardOf(record.getUserId());
+        synchronized (shard) {
+            shard.put(record);
+        }
+    }
+
+    @Override
+    public Optional<RefreshTokenRecord> find(Long userId, String tokenHash) {
+        Shard shard = shardOf(userId);
+        RefreshTokenRecord record;
+        synchronized (shard) {
+            Map<String, RefreshTokenRecord> tokens = shard.byUser.get(userId);
+            record = tokens != null ? tokens.get(tokenHash) : null;
+        }
+        return Optional.ofNullable(record).filter(r -> !r.isExpired(Instant.now()));
+    }
+
+    @Override
+    public boolean rotate(RefreshTokenRecord previous, RefreshTokenRecord next, Instant now) {
+        Shard shard = shardOf(next.getUserId());
+        synchronized (shard) {
+            Map<String, RefreshTokenRecord> tokens = shard.byUser.get(previous.getUserId());
+            RefreshTokenRecord current = tokens != null ? tokens.get(previous.getTokenHash()) : null;
+            if (current == null || current.isRotated()) {
+                return false;
+            }
+            shard.put(current.toBuilder().rotatedAt(now).build());
+            shard.put(next);
+            return true;
+        }
+    }
+
+    @Override
+    public int deleteAllBySession(Long userId, String sessionId) {
+        Shard shard = shardOf(userId);
+        synchronized (shard) {
+            Map<String, RefreshTokenRecord> tokens = shard.byUser.get(userId);
+            if (tokens == null) {
+                return 0;
+            }
+            int before = tokens.size();
+            tokens.values().removeIf(record -> record.getSessionId().equals(sessionId));
+            int removed = before - tokens.size();
+            if (tokens.isEmpty()) {
+                shard.byUser.remove(userId);
+            }
+            return removed;
+        }
+    }
+
+    @Override
+    public int deleteAllByUserId(Long userId) {
+        Shard shard = shardOf(userId);
+        synchronized (shard) {
+            Map<String, RefreshTokenRecord> removed = shard.byUser.remove(userId);
+            return removed != null ? removed.size() : 0;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${auth.refresh-token.memory.sweep-interval-ms:60000}")
+    public void deleteExpired() {
+        Instant now = Instant.now();
+        int deleted = 0;
+        for (Shard shard : shards) {
+            synchronized (shard) {
+                deleted += shard.removeExpired(now);
+            }
+        }
+        if (deleted > 0) {
+            log.debug("만료된 Refresh Token 정리 - {}건", deleted);
+        }
+    }
+
+    private Shard shardOf(Long userId) {
+        return shards[Math.floorMod(Long.hashCode(userId), shards.length)];
+    }
+
+    // userId → (tokenHash → record). 샤드 객체 자체를 잠금으로 사용
+    private static class Shard {
+        private final Map<Long, Map<String, RefreshTokenRecord>> byUser = new HashMap<>();
+
+        void put(RefreshTokenRecord record) {
+            byUser.computeIfAbsent(record.getUserId(), id -> new HashMap<>(4))
+                    .put(record.getTokenHash(), record);
+        }
+
+        int removeExpired(Instant now) {
+            int removed = 0;
+            var users = byUser.values().iterator();
+            while (users.hasNext()) {
+                Map<String, RefreshTokenRecord> tokens = users.next();
+                int before = tokens.size();
+                tokens.values().removeIf(record -> record.isExpired(now));
+                removed += before - tokens.size();
+                if (tokens.isEmpty()) {
+                    users.remove();
+                }
+            }
+            return removed;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.moyeorak.auth_service.repository;
+
+import com.moyeorak.auth_service.entity.RefreshToken;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Optional;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "auth.refresh-token.store", havingValue = "jpa", matchIfMissing = true)
+public class JpaRefreshTokenStore implements RefreshTokenStore {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    @Override
+    @Transactional
+    public void save(RefreshTokenRecord record) {
+        refreshTokenRepository.save(toEntity(record));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<RefreshTokenRecord> find(Long userId, String tokenHash) {
+        return refreshTokenRepository.findById(tokenHash)
+                .filter(token -> token.getUserId().equals(userId))
+                .filter(token -> !token.isExpired(Instant.now()))
+                .map(token -> new RefreshTokenRecord(token.getTokenHash(), token.getUserId(),
+                        token.getSessionId(), token.getExpiresAt(), token.getRotatedAt()));
+    }
+
+    @Override
+    @Transactional
+    public boolean rotate(RefreshTokenRecord previous, RefreshTokenRecord next, Instant now) {
+        if (refreshTokenRepository.markRotated(previous.getTokenHash(), now) == 0) {
+            return false;
+        }
+        refreshTokenRepository.save(toEntity(next));
+        return true;
+    }
+
+    @Override
+    @Transactional
+    public int deleteAllBySession(Long userId, String sessionId) {
+        return refreshTokenRepository.deleteAllBySession(userId, sessionId);
+    }
+
+    @Override
+    @Transactional
+    public int deleteAllByUserId(Long userId) {
+        return refreshTokenRepository.deleteAllByUserId(userId);
+    }
+
+    // 만료된 Refresh Token 정리
+    @Scheduled(cron = "${auth.refresh-token.cleanup-cron:0 30 4 * * *}")
+    @Transactional
+    public void deleteExpired() {
+        int deleted = refreshTokenRepository.deleteAllExpired(Instant.now());
+        log.info("만료된 Refresh Token 정리 - {}건", deleted);
+    }
+
+    private static RefreshToken toEntity(RefreshTokenRecord record) {
+        return RefreshToken.builder()
+                .tokenHash(record.getTokenHash())
+                .userId(record.getUserId())
+                .sessionId(record.getSessionId())
+                .expiresAt(record.getExpiresAt())
+                .rotatedAt(record.getRotatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,104 @@
+package com.moyeorak.auth_service.repository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+
+/*
+ * 복제 지연 동안 방금 바뀐 사용자 행은 primary 에서 읽게 함 (read-your-writes)
+ * - 쓰기 후 recordWrite(userId), 읽기 직전 pinPrimaryIfRecentlyWritten(userId)
+ * - 고정은 현재 트랜잭션이 끝날 때 해제. ReplicaRoutingDataSource 가 isPrimaryPinned() 로 확인
+ * - 창(window)은 허용 복제 지연(auth.datasource.max-replica-lag-seconds) 이상이어야 함
+ * - 최근 쓰기 기록은 노드별이라 다른 노드의 쓰기는 모름. 그래서 replica 에서 읽은 행인지도 기록해 두고
+ *   (recordReplicaRead) 캐시는 그런 행을 창 길이만큼만 보관 (UserCache)
+ */
+@Component
+public class ReadYourWrites {
+
+    private static final ThreadLocal<Boolean> PRIMARY_PINNED = new ThreadLocal<>();
+    // 현재 트랜잭션이 replica 커넥션을 잡았는지 (트랜잭션이 끝날 때 해제)
+    private static final ThreadLocal<Boolean> REPLICA_TRANSACTION = new ThreadLocal<>();
+    // 스레드가 replica 로 라우팅된 횟수 (해제하지 않음, 조회 전후 비교용)
+    private static final ThreadLocal<long[]> REPLICA_READS = ThreadLocal.withInitial(() -> new long[1]);
+
+    private final Duration window;
+    private final Cache<Long, Boolean> recentWrites;
+
+    public ReadYourWrites(@Value("${auth.datasource.read-your-writes-seconds:10}") long windowSeconds) {
+        this.window = Duration.ofSeconds(windowSeconds);
+        this.recentWrites = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .build();
+    }
+
+    public static boolean isPrimaryPinned() {
+        return Boolean.TRUE.equals(PRIMARY_PINNED.get());
+    }
+
+    // ReplicaRoutingDataSource 가 replica 를 고를 때 호출
+    public static void recordReplicaRead() {
+        REPLICA_READS.get()[0]++;
+        if (!TransactionSynchronizationManager.isSynchronizationActive() || isReplicaTransaction()) {
+            return;
+        }
+        REPLICA_TRANSACTION.set(Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                REPLICA_TRANSACTION.remove();
+            }
+        });
+    }
+
+    public static boolean isReplicaTransaction() {
+        return Boolean.TRUE.equals(REPLICA_TRANSACTION.get());
+    }
+
+    public static long replicaReads() {
+        return REPLICA_READS.get()[0];
+    }
+
+    // 이 기간이 지나면 replica 에도 그 전에 커밋된 쓰기가 반영돼 있음 (허용 복제 지연 이상)
+    public Duration getWindow() {
+        return window;
+    }
+
+    public void recordWrite(Long userId) {
+        recentWrites.put(userId, Boolean.TRUE);
+    }
+
+    public void pinPrimaryIfRecentlyWritten(Long userId) {
+        if (recentWrites.getIfPresent(userId) != null) {
+            pinPrimary();
+        }
+    }
+
+    public void pinPrimaryIfRecentlyWritten(Collection<? extends Long> userIds) {
+        for (Long userId : userIds) {
+            if (recentWrites.getIfPresent(userId) != null) {
+                pinPrimary();
+                return;
+            }
+        }
+    }
+
+    // 트랜잭션 밖이면 읽기 전용 라우팅 대상이 아니므로 고정할 필요 없음
+    private static void pinPrimary() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive() || isPrimaryPinned()) {
+            return;
+        }
+        PRIMARY_PINNED.set(Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                PRIMARY_PINNED.remove();
+            }
+        });
+    }
+}
@@ -0,0 +1,152 @@
+package com.moyeorak.auth_service.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/*
+ * Redis 프로토콜 서버 기반 Refresh Token 저장소 (노드 간 공유)
+ *   auth:rt:{userId}:{tokenHash}           hash (sessionId, expiresAt, rotatedAt), 토큰 만료 시각에 PEXPIREAT
+ *   auth:rt:session:{userId}:{sessionId}   set  (tokenHash) - family 폐기용
+ *   auth:rt:user:{userId}                  set  (sessionId) - 로그아웃 시 일괄 삭제용
+ * 여러 키를 건드리는 저장 / 교체 / 삭제는 Lua 스크립트 한 번으로 원자적으로 처리.
+ * userId 를 hash tag 로 감싸 한 사용자의 키는 모두 같은 slot (Redis Cluster 에서도 스크립트 실행 가능)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "auth.refresh-token.store", havingValue = "redis")
+public class RedisRefreshTokenStore implements RefreshTokenStore {
+
+    private static final String TOKEN_PREFIX = "auth:rt:{%d}:";
+    private static final String SESSION_PREFIX = "auth:rt:session:{%d}:";
+    private static final String USER_KEY = "auth:rt:user:{%d}";
+
+    // 토큰 hash + 세션 / 사용자 set 기록. 세션 / 사용자 set 은 가장 최근에 저장된 토큰까지 유지
+    private static final String WRITE_FUNCTION =
+            "local function write(tokenKey, sessionKey, userKey, sessionId, expiresAt, tokenHash) "
+                    + "redis.call('HSET', tokenKey, 'sessionId', sessionId, 'expiresAt', expiresAt) "
+                    + "redis.call('PEXPIREAT', tokenKey, expiresAt) "
+                    + "redis.call('SADD', sessionKey, tokenHash) "
+                    + "redis.call('PEXPIREAT', sessionKey, expiresAt) "
+                    + "redis.call('SADD', userKey, sessionId) "
+                    + "redis.call('PEXPIREAT', userKey, expiresAt) "
+                    + "end ";
+
+    // KEYS: token, session, user / ARGV: sessionId, expiresAt, tokenHash
+    private static final RedisScript<Long> SAVE = new DefaultRedisScript<>(
+            WRITE_FUNCTION
+                    + "write(KEYS[1], KEYS[2], KEYS[3], ARGV[1], ARGV[2], ARGV[3]) "
+                    + "return 1", Long.class);
+
+    // KEYS: previous token, next token, session, user / ARGV: now, sessionId, expiresAt, next tokenHash
+    // previous 가 (만료되지 않고) 있고 아직 교체 전일 때만 교체 시각 기록 + next 저장 - 동시 요청 중 하나만 1 반환
+    private static final RedisScript<Long> ROTATE = new DefaultRedisScript<>(
+            WRITE_FUNCTION
+                    + "if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end "
+                    + "if redis.call('HSETNX', KEYS[1], 'rotatedAt', ARGV[1]) == 0 then return 0 end "
+                    + "write(KEYS[2], KEYS[3], KEYS[4], ARGV[2], ARGV[3], ARGV[4]) "
+                    + "return 1", Long.class);
+
+    // 세션 하나의 토큰 키 + 세션 set 삭제, 삭제된 (만료되지 않은) 토큰 수 반환
+    private static final String DELETE_SESSION_FUNCTION =
+            "local function deleteSession(tokenPrefix, sessionKey) "
+                    + "local deleted = 0 "
+                    + "for _, hash in ipairs(redis.call('SMEMBERS', sessionKey)) do "
+                    + "deleted = deleted + redis.call('DEL', tokenPrefix .. hash) end "
+                    + "redis.call('DEL', sessionKey) "
+                    + "return deleted end ";
+
+    // KEYS: session, user / ARGV: token prefix, sessionId
+    private static final RedisScript<Long> DELETE_SESSION = new DefaultRedisScript<>(
+            DELETE_SESSION_FUNCTION
+                    + "local deleted = deleteSession(ARGV[1], KEYS[1]) "
+                    + "redis.call('SREM', KEYS[2], ARGV[2]) "
+                    + "return deleted", Long.class);
+
+    // KEYS: user / ARGV: token prefix, session prefix
+    private static final RedisScript<Long> DELETE_USER = new DefaultRedisScript<>(
+            DELETE_SESSION_FUNCTION
+                    + "local deleted = 0 "
+                    + "for _, sessionId in ipairs(redis.call('SMEMBERS', KEYS[1])) do "
+                    + "deleted = deleted + deleteSession(ARGV[1], ARGV[2] .. sessionId) end "
+                    + "redis.call('DEL', KEYS[1]) "
+                    + "return deleted", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public void save(RefreshTokenRecord record) {
+        redisTemplate.execute(SAVE,
+                List.of(tokenKey(record.getUserId(), record.getTokenHash()),
+                        sessionKey(record.getUserId(), record.getSessionId()),
+                        userKey(record.getUserId())),
+                record.getSessionId(), String.valueOf(record.getExpiresAt().toEpochMilli()), record.getTokenHash());
+    }
+
+    @Override
+    public Optional<RefreshTokenRecord> find(Long userId, String tokenHash) {
+        Map<Object, Object> fields = redisTemplate.opsForHash().entries(tokenKey(userId, tokenHash));
+        if (fields.isEmpty()) {
+            return Optional.empty();
+        }
+        String rotatedAt = (String) fields.get("rotatedAt");
+        RefreshTokenRecord record = RefreshTokenRecord.builder()
+                .tokenHash(tokenHash)
+                .userId(userId)
+                .sessionId((String) fields.get("sessionId"))
+                .expiresAt(Instant.ofEpochMilli(Long.parseLong((String) fields.get("expiresAt"))))
+                .rotatedAt(rotatedAt != null ? Instant.ofEpochMilli(Long.parseLong(rotatedAt)) : null)
+                .build();
+        return Optional.of(record).filter(r -> !r.isExpired(Instant.now()));
+    }
+
+    @Override
+    public boolean rotate(RefreshTokenRecord previous, RefreshTokenRecord next, Instant now) {
+        Long rotated = redisTemplate.execute(ROTATE,
+                List.of(tokenKey(previous.getUserId(), previous.getTokenHash()),
+                        tokenKey(next.getUserId(), next.getTokenHash()),
+                        sessionKey(next.getUserId(), next.getSessionId()),
+                        userKey(next.getUserId())),
+                String.valueOf(now.toEpochMilli()), next.getSessionId(),
+                String.valueOf(next.getExpiresAt().toEpochMilli()), next.getTokenHash());
+        return rotated != null && rotated == 1;
+    }
+
+    @Override
+    public int deleteAllBySession(Long userId, String sessionId) {
+        Long deleted = redisTemplate.execute(DELETE_SESSION,
+                List.of(sessionKey(userId, sessionId), userKey(userId)),
+                String.format(TOKEN_PREFIX, userId), sessionId);
+        return deleted != null ? deleted.intValue() : 0;
+    }
+
+    @Override
+    public int deleteAllByUserId(Long userId) {
+        Long deleted = redisTemplate.execute(DELETE_USER,
+                List.of(userKey(userId)),
+                String.format(TOKEN_PREFIX, userId), String.format(SESSION_PREFIX, userId));
+        return deleted != null ? deleted.intValue() : 0;
+    }
+
+    private static String tokenKey(Long userId, String tokenHash) {
+        return String.format(TOKEN_PREFIX, userId) + tokenHash;
+    }
+
+    private static String sessionKey(Long userId, String sessionId) {
+        return String.format(SESSION_PREFIX, userId) + sessionId;
+    }
+
+    private static String userKey(Long userId) {
+        return String.format(USER_KEY, userId);
+    }
+}
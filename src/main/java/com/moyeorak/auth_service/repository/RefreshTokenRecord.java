@@ -0,0 +1,29 @@
+package com.moyeorak.auth_service.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+
+// 저장소 구현과 무관한 Refresh Token 정보 (토큰 원문 대신 SHA-256 digest)
+// 같은 로그인 세션에서 교체되며 이어진 토큰들이 하나의 family (sessionId)
+@Getter
+@Builder(toBuilder = true)
+@AllArgsConstructor
+public class RefreshTokenRecord {
+
+    private final String tokenHash;
+    private final Long userId;
+    private final String sessionId;
+    private final Instant expiresAt;
+    private final Instant rotatedAt; // 새 토큰으로 교체된 시각 (현재 토큰이면 null)
+
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+
+    public boolean isRotated() {
+        return rotatedAt != null;
+    }
+}
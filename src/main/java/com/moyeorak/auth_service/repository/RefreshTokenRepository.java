@@ -0,0 +1,29 @@
+package com.moyeorak.auth_service.repository;
+
+import com.moyeorak.auth_service.entity.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, String> {
+
+    // 아직 교체 전일 때만 교체 시각 기록 (동시 요청 중 하나만 성공)
+    @Modifying
+    @Query("update RefreshToken t set t.rotatedAt = :now where t.tokenHash = :tokenHash and t.rotatedAt is null")
+    int markRotated(@Param("tokenHash") String tokenHash, @Param("now") Instant now);
+
+    @Modifying
+    @Query("delete from RefreshToken t where t.userId = :userId and t.sessionId = :sessionId")
+    int deleteAllBySession(@Param("userId") Long userId, @Param("sessionId") String sessionId);
+
+    @Modifying
+    @Query("delete from RefreshToken t where t.userId = :userId")
+    int deleteAllByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("delete from RefreshToken t where t.expiresAt < :now")
+    int deleteAllExpired(@Param("now") Instant now);
+}
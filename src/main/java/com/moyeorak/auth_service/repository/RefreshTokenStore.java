@@ -0,0 +1,28 @@
+package com.moyeorak.auth_service.repository;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/*
+ * Refresh Token 저장소 SPI. auth.refresh-token.store 로 구현 선택
+ *   jpa    (기본) : MySQL refresh_tokens 테이블
+ *   memory        : 프로세스 내 저장 (userId 기준 샤딩, TTL 만료). 단일 노드 / 테스트용
+ *   redis         : Redis 프로토콜 서버 (spring.data.redis.*), 노드 간 공유
+ */
+public interface RefreshTokenStore {
+
+    void save(RefreshTokenRecord record);
+
+    // 만료된 토큰은 조회되지 않음. 교체된 토큰은 재사용 탐지를 위해 만료 시까지 조회됨
+    Optional<RefreshTokenRecord> find(Long userId, String tokenHash);
+
+    // previous 가 아직 교체 전이면 rotatedAt 을 기록하고 next 저장 후 true.
+    // 다른 요청이 먼저 교체했으면 아무것도 하지 않고 false (compare-and-set)
+    boolean rotate(RefreshTokenRecord previous, RefreshTokenRecord next, Instant now);
+
+    // 토큰 family(세션) 전체 폐기 - 재사용 탐지 시
+    int deleteAllBySession(Long userId, String sessionId);
+
+    // 사용자의 모든 세션 삭제, 삭제 건수 반환
+    int deleteAllByUserId(Long userId);
+}
@@ -0,0 +1,25 @@
+package com.moyeorak.auth_service.repository;
+
+import com.moyeorak.auth_service.entity.TokenRevocation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface TokenRevocationRepository extends JpaRepository<TokenRevocation, Long> {
+
+    // 사용자당 한 행, 더 늦은 not-before 만 반영 (동시 로그아웃도 한 문장으로)
+    @Modifying
+    @Query(value = "insert into token_revocations (user_id, not_before) values (:userId, :notBefore) "
+            + "on duplicate key update not_before = greatest(not_before, values(not_before))", nativeQuery = true)
+    int upsert(@Param("userId") Long userId, @Param("notBefore") long notBefore);
+
+    @Query("select r from TokenRevocation r where r.notBefore >= :since")
+    List<TokenRevocation> findAllSince(@Param("since") long since);
+
+    @Modifying
+    @Query("delete from TokenRevocation r where r.notBefore < :threshold")
+    int deleteAllBefore(@Param("threshold") long threshold);
+}
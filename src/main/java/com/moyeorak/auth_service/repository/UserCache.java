@@ -0,0 +1,189 @@
+package com.moyeorak.auth_service.repository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/*
+ * UserRepository 앞단의 read-through 캐시 (id -> UserSnapshot), 프로필 조회용
+ * - 노드별 캐시라 다른 노드의 변경은 TTL 동안 보이지 않음.
+ *   그래서 비밀번호 확인 / 인증·권한 판단용 사용자 조회는 이 캐시를 거치지 않고 DB 에서 읽음
+ * - 가입 / 수정 / 비밀번호 변경 / 탈퇴 시 evict() 로 명시적 무효화 (트랜잭션 중이면 커밋 후 한 번 더)
+ * - 적재 중에 evict 가 끼어들면 옛 행이 다시 들어가지 않게 함
+ *   (단건은 Caffeine get(key, loader) 의 원자성, 일괄 적재는 evict 횟수 비교)
+ * - DB 적재 시 방금 바뀐 사용자는 primary 에서 읽음 (ReadYourWrites)
+ * - replica 에서 읽은 행은 read-your-writes 창 동안만 보관. 다른 노드의 쓰기가 아직 복제되지 않은
+ *   옛 행일 수 있으므로 TTL 내내 두지 않고, 창이 지난 뒤 다시 읽으면 그 쓰기가 반영된 행을 받음
+ */
+@Slf4j
+@Component
+public class UserCache {
+
+    private final UserRepository userRepository;
+    private final ReadYourWrites readYourWrites;
+    private final Cache<Long, Entry> byId;
+
+    // evict 횟수. 일괄 적재 전후로 바뀌었으면 적재한 값을 믿지 않음
+    private final AtomicLong evictions = new AtomicLong();
+
+    public UserCache(UserRepository userRepository,
+                     ReadYourWrites readYourWrites,
+                     @Value("${user.cache.enabled:true}") boolean enabled,
+                     @Value("${user.cache.max-size:10000}") long maxSize,
+                     @Value("${user.cache.ttl-seconds:300}") long ttlSeconds,
+                     MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.readYourWrites = readYourWrites;
+        if (!enabled) {
+            this.byId = null;
+            log.info("사용자 캐시 비활성화");
+            return;
+        }
+        long ttlNanos = Duration.ofSeconds(ttlSeconds).toNanos();
+        long replicaTtlNanos = Math.min(ttlNanos, readYourWrites.getWindow().toNanos());
+        this.byId = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                // 쓰기 시점 기준 만료 (expireAfterWrite 와 같음), replica 에서 읽은 행만 짧게
+                .expireAfter(new Expiry<Long, Entry>() {
+                    @Override
+                    public long expireAfterCreate(Long id, Entry entry, long currentTime) {
+                        return entry.fromReplica() ? replicaTtlNanos : ttlNanos;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(Long id, Entry entry, long currentTime, long currentDuration) {
+                        return expireAfterCreate(id, entry, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(Long id, Entry entry, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, byId, "users.by-id");
+    }
+
+    // 없는 사용자는 캐시하지 않음
+    public Optional<UserSnapshot> getById(Long id) {
+        if (byId == null) {
+            return Optional.ofNullable(load(id));
+        }
+        Entry entry = byId.get(id, this::loadEntry);
+        return entry != null ? Optional.of(entry.snapshot()) : Optional.empty();
+    }
+
+    // 캐시에 없는 id만 IN 쿼리 한 번으로 조회, 없는 사용자는 결과 Map 에서 빠짐
+    public Map<Long, UserSnapshot> getAllById(Collection<Long> ids) {
+        if (byId == null) {
+            return unwrap(loadAll(ids));
+        }
+        long version = evictions.get();
+        Map<Long, Entry> found = byId.getAll(ids, this::loadAll);
+        discardIfEvicted(version, found.keySet());
+        return unwrap(found);
+    }
+
+    // 워밍업 적재용. query 실행 중 evict 가 있었으면 이번에 넣은 항목은 버림
+    public List<UserSnapshot> preload(Supplier<List<UserSnapshot>> query) {
+        long version = evictions.get();
+        long replicaReads = ReadYourWrites.replicaReads();
+        List<UserSnapshot> loaded = query.get();
+        if (byId == null) {
+            return loaded;
+        }
+        boolean fromReplica = readFromReplica(replicaReads);
+        Map<Long, Entry> entries = new HashMap<>();
+        for (UserSnapshot snapshot : loaded) {
+            entries.put(snapshot.getId(), new Entry(snapshot, fromReplica));
+        }
+        byId.putAll(entries);
+        discardIfEvicted(version, entries.keySet());
+        return loaded;
+    }
+
+    // 사용자 행 변경 시 호출
+    public void evict(Long id) {
+        readYourWrites.recordWrite(id);
+        if (byId == null) {
+            return;
+        }
+        invalidate(id);
+        // 커밋 전에 다른 요청이 옛 값을 다시 적재할 수 있으므로 커밋 후 한 번 더 무효화
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(id);
+                }
+            });
+        }
+    }
+
+    private UserSnapshot load(Long id) {
+        Entry entry = loadEntry(id);
+        return entry != null ? entry.snapshot() : null;
+    }
+
+    private Entry loadEntry(Long id) {
+        readYourWrites.pinPrimaryIfRecentlyWritten(id);
+        long replicaReads = ReadYourWrites.replicaReads();
+        UserSnapshot snapshot = userRepository.findSnapshotById(id).orElse(null);
+        return snapshot != null ? new Entry(snapshot, readFromReplica(replicaReads)) : null;
+    }
+
+    private Map<Long, Entry> loadAll(Collection<? extends Long> ids) {
+        readYourWrites.pinPrimaryIfRecentlyWritten(ids);
+        long replicaReads = ReadYourWrites.replicaReads();
+        List<UserSnapshot> snapshots = userRepository.findSnapshotsByIdIn(List.copyOf(ids));
+        boolean fromReplica = readFromReplica(replicaReads);
+        Map<Long, Entry> loaded = new HashMap<>();
+        for (UserSnapshot snapshot : snapshots) {
+            loaded.put(snapshot.getId(), new Entry(snapshot, fromReplica));
+        }
+        return loaded;
+    }
+
+    // 조회 중 replica 로 라우팅됐거나, 이미 replica 커넥션을 잡은 트랜잭션 안에서 읽었으면 replica 행
+    private static boolean readFromReplica(long replicaReadsBefore) {
+        return ReadYourWrites.isReplicaTransaction() || ReadYourWrites.replicaReads() != replicaReadsBefore;
+    }
+
+    private static Map<Long, UserSnapshot> unwrap(Map<Long, Entry> entries) {
+        Map<Long, UserSnapshot> snapshots = new HashMap<>();
+        entries.forEach((id, entry) -> snapshots.put(id, entry.snapshot()));
+        return snapshots;
+    }
+
+    // 횟수를 먼저 올리고 지우므로, 적재 후 횟수가 같으면 그 사이 evict 는 없었음
+    private void invalidate(Long id) {
+        evictions.incrementAndGet();
+        byId.invalidate(id);
+    }
+
+    private void discardIfEvicted(long version, Collection<Long> ids) {
+        if (evictions.get() != version) {
+            byId.invalidateAll(ids);
+        }
+    }
+
+    private record Entry(UserSnapshot snapshot, boolean fromReplica) {
+    }
+}
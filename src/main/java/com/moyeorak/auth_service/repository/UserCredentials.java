@@ -0,0 +1,19 @@
+package com.moyeorak.auth_service.repository;
+
+import com.moyeorak.auth_service.entity.User;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+// 인증용 프로젝션 (로그인 / 비밀번호 확인에서만 DB 로 직접 조회, 캐시에 넣지 않음)
+@Getter
+@Builder
+@AllArgsConstructor
+public class UserCredentials {
+
+    private final Long id;
+    private final String email;
+    private final String password;
+    private final User.Role role;
+    private final Long regionId;
+}
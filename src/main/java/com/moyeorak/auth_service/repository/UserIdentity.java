@@ -0,0 +1,14 @@
+package com.moyeorak.auth_service.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 중복 검사 필터 적재용 프로젝션 (id 순 페이지 조회)
+@Getter
+@AllArgsConstructor
+public class UserIdentity {
+
+    private final Long id;
+    private final String email;
+    private final String phone;
+}
@@ -1,8 +1,14 @@
 package com.moyeorak.auth_service.repository;
 
 import com.moyeorak.auth_service.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,4 +17,44 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByEmail(String email);
     boolean existsByPhone(String phone);
 
-}
\ No newline at end of file
+    // 비밀번호 컬럼만 갱신 (재해시 / 비밀번호 변경 - 엔티티 로딩 / 전체 컬럼 UPDATE 없이).
+    // 해시는 트랜잭션 밖에서 계산하므로, 그 사이 다른 요청이 바꾼 비밀번호를 덮어쓰지 않게 읽은 해시 그대로일 때만 (0 = 변경됨)
+    @Modifying
+    @Query("update User u set u.password = :password where u.id = :id and u.password = :expected")
+    int updatePassword(@Param("id") Long id, @Param("expected") String expected, @Param("password") String password);
+
+    // 읽기 전용 조회는 엔티티 대신 생성자 프로젝션 (영속성 컨텍스트 / 스냅샷 비교 없음, 필요한 컬럼만 SELECT)
+    // 프로필 / UserDto / 캐시용 - 비밀번호 해시 제외
+    String SNAPSHOT = "select new com.moyeorak.auth_service.repository.UserSnapshot("
+            + "u.id, u.email, u.name, u.gender, u.phone, u.role, u.birth, u.regionId) from User u ";
+
+    // 로그인 / 비밀번호 확인용 - 토큰 발급에 필요한 컬럼 + 비밀번호 해시
+    String CREDENTIALS = "select new com.moyeorak.auth_service.repository.UserCredentials("
+            + "u.id, u.email, u.password, u.role, u.regionId) from User u ";
+
+    @Query(SNAPSHOT + "where u.id = :id")
+    Optional<UserSnapshot> findSnapshotById(@Param("id") Long id);
+
+    @Query(CREDENTIALS + "where u.id = :id")
+    Optional<UserCredentials> findCredentialsById(@Param("id") Long id);
+
+    @Query(CREDENTIALS + "where u.email = :email")
+    Optional<UserCredentials> findCredentialsByEmail(@Param("email") String email);
+
+    @Query(SNAPSHOT + "where u.id in :ids")
+    List<UserSnapshot> findSnapshotsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 최근 가입자부터 keyset 페이지 (워밍업용)
+    @Query(SNAPSHOT + "where u.id < :beforeId order by u.id desc")
+    List<UserSnapshot> findSnapshotsBefore(@Param("beforeId") Long beforeId, Pageable pageable);
+
+    // id 기준 keyset 페이지 (offset 없이 전체 테이블 순회)
+    @Query("select new com.moyeorak.auth_service.repository.UserIdentity(u.id, u.email, u.phone) "
+            + "from User u where u.id > :afterId order by u.id")
+    List<UserIdentity> findIdentitiesAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 최근 가입 / 수정된 사용자 (중복 확인 필터의 노드 간 동기화용, updated_at 인덱스)
+    @Query("select new com.moyeorak.auth_service.repository.UserIdentity(u.id, u.email, u.phone) "
+            + "from User u where u.updatedAt >= :since")
+    List<UserIdentity> findIdentitiesModifiedSince(@Param("since") LocalDateTime since);
+}
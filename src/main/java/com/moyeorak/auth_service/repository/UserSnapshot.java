@@ -0,0 +1,24 @@
+package com.moyeorak.auth_service.repository;
+
+import com.moyeorak.auth_service.entity.User;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+// User 프로필 프로젝션 (UserRepository 생성자 쿼리 결과, 캐시에 엔티티 대신 보관). 비밀번호 해시는 UserCredentials 로만 조회
+@Getter
+@Builder
+@AllArgsConstructor
+public class UserSnapshot {
+
+    private final Long id;
+    private final String email;
+    private final String name;
+    private final User.Gender gender;
+    private final String phone;
+    private final User.Role role;
+    private final LocalDate birth;
+    private final Long regionId;
+}
@@ -0,0 +1,120 @@
+package com.moyeorak.auth_service.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/*
+ * 클라이언트 IP (X-Forwarded-For 는 신뢰하는 프록시가 붙인 항목만 사용 - 클라이언트가 임의로 넣은 앞쪽 값은 무시)
+ *   forwarded-hops  : 앞단 프록시 단 수. 0(기본)이면 헤더를 보지 않고 remoteAddr 만 사용 - ALB 뒤에서 도는 프로필에서만 켬
+ *   trusted-proxies : 직접 연결한 주소(remoteAddr)가 이 CIDR 중 하나일 때만 헤더 사용 (비우면 검사 안 함)
+ * 프록시 없이 태스크 포트로 직접 들어온 요청이 헤더로 IP 를 바꿔 가며 IP 단위 제한을 피하지 못하게 한다.
+ */
+@Slf4j
+@Component
+public class ClientIpResolver {
+
+    private static final Pattern IPV4 = Pattern.compile("\\d{1,3}(\\.\\d{1,3}){3}");
+
+    private final int forwardedHops;
+    private final List<Cidr> trustedProxies;
+
+    public ClientIpResolver(@Value("${auth.login-rate-limit.forwarded-hops:0}") int forwardedHops,
+                            @Value("${auth.login-rate-limit.trusted-proxies:}") List<String> trustedProxies) {
+        this.forwardedHops = forwardedHops;
+        this.trustedProxies = new ArrayList<>();
+        for (String cidr : trustedProxies) {
+            if (!cidr.isBlank()) {
+                this.trustedProxies.add(Cidr.parse(cidr.trim()));
+            }
+        }
+        if (forwardedHops > 0) {
+            log.info("X-Forwarded-For 사용 - hops: {}, trusted-proxies: {}", forwardedHops, trustedProxies);
+        }
+    }
+
+    public String resolve(HttpServletRequest request) {
+        String remoteAddr = request.getRemoteAddr();
+        String forwarded = request.getHeader("X-Forwarded-For");
+        if (forwardedHops > 0 && forwarded != null && !forwarded.isBlank() && fromTrustedProxy(remoteAddr)) {
+            String[] hops = forwarded.split(",");
+            // 프록시 n단이면 오른쪽에서 n번째가 첫 프록시가 본 클라이언트 주소
+            String ip = hops[Math.max(0, hops.length - forwardedHops)].trim();
+            if (!ip.isEmpty()) {
+                return ip;
+            }
+        }
+        return remoteAddr;
+    }
+
+    private boolean fromTrustedProxy(String remoteAddr) {
+        if (trustedProxies.isEmpty()) {
+            return true;
+        }
+        byte[] address = toBytes(remoteAddr);
+        if (address == null) {
+            return false;
+        }
+        for (Cidr cidr : trustedProxies) {
+            if (cidr.contains(address)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 숫자 주소만 변환 (호스트 이름이면 DNS 조회하지 않고 null)
+    private static byte[] toBytes(String address) {
+        if (address == null || !(address.indexOf(':') >= 0 || IPV4.matcher(address).matches())) {
+            return null;
+        }
+        try {
+            return InetAddress.getByName(address).getAddress();
+        } catch (UnknownHostException e) {
+            return null;
+        }
+    }
+
+    // 10.0.0.0/16, 2001:db8::/32, 단일 주소(접두사 생략)
+    private record Cidr(byte[] network, int prefixLength) {
+
+        static Cidr parse(String cidr) {
+            int slash = cidr.indexOf('/');
+            String address = slash >= 0 ? cidr.substring(0, slash) : cidr;
+            byte[] network = toBytes(address);
+            if (network == null) {
+                throw new IllegalArgumentException("잘못된 trusted-proxies 항목: " + cidr);
+            }
+            int prefixLength = slash >= 0 ? Integer.parseInt(cidr.substring(slash + 1)) : network.length * 8;
+            if (prefixLength < 0 || prefixLength > network.length * 8) {
+                throw new IllegalArgumentException("잘못된 trusted-proxies 접두사 길이: " + cidr);
+            }
+            return new Cidr(network, prefixLength);
+        }
+
+        boolean contains(byte[] address) {
+            if (address.length != network.length) {
+                return false;
+            }
+            int fullBytes = prefixLength / 8;
+            for (int i = 0; i < fullBytes; i++) {
+                if (address[i] != network[i]) {
+                    return false;
+                }
+            }
+            int remainingBits = prefixLength % 8;
+            if (remainingBits == 0) {
+                return true;
+            }
+            int mask = 0xFF << (8 - remainingBits);
+            return (address[fullBytes] & mask) == (network[fullBytes] & mask);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.moyeorak.auth_service.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/*
+ * 프로세스 내 token bucket
+ * - 버킷 맵은 Caffeine (내부적으로 분할된 ConcurrentHashMap), 버킷 갱신은 CAS 로 lock 없이 처리
+ * - 마지막 사용 후 버킷이 가득 찰 시간이 지나면 제거 (다시 만들어도 같은 상태)
+ */
+@Component
+@ConditionalOnProperty(name = "auth.login-rate-limit.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryLoginRateLimiter implements LoginRateLimiter {
+
+    private final Cache<String, TokenBucket> buckets;
+
+    public InMemoryLoginRateLimiter(@Value("${auth.login-rate-limit.max-keys:100000}") long maxKeys,
+                                    MeterRegistry meterRegistry) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfter(new ExpireWhenFull())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, buckets, "auth.login-rate-limit.buckets");
+    }
+
+    @Override
+    public long tryAcquire(String key, long capacity, long refillMillis) {
+        TokenBucket bucket = buckets.get(key, k -> new TokenBucket(capacity, refillMillis));
+        return bucket.tryAcquire(System.nanoTime());
+    }
+
+    private static class TokenBucket {
+        private final long capacity;
+        private final long refillNanos;
+        private final AtomicReference<State> state;
+
+        TokenBucket(long capacity, long refillMillis) {
+            this.capacity = capacity;
+            this.refillNanos = TimeUnit.MILLISECONDS.toNanos(refillMillis);
+            this.state = new AtomicReference<>(new State(capacity, System.nanoTime()));
+        }
+
+        long tryAcquire(long now) {
+            while (true) {
+                State current = state.get();
+                long elapsed = Math.max(0, now - current.updatedAt);
+                double tokens = Math.min(capacity, current.tokens + (double) elapsed / refillNanos);
+                if (tokens < 1) {
+                    return TimeUnit.NANOSECONDS.toMillis((long) Math.ceil((1 - tokens) * refillNanos)) + 1;
+                }
+                if (state.compareAndSet(current, new State(tokens - 1, now))) {
+                    return 0;
+                }
+            }
+        }
+
+        long fullRefillNanos() {
+            return capacity * refillNanos;
+        }
+    }
+
+    private record State(double tokens, long updatedAt) {
+    }
+
+    private static class ExpireWhenFull implements Expiry<String, TokenBucket> {
+
+        @Override
+        public long expireAfterCreate(String key, TokenBucket bucket, long currentTime) {
+            return bucket.fullRefillNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, TokenBucket bucket, long currentTime, long currentDuration) {
+            return bucket.fullRefillNanos();
+        }
+
+        @Override
+        public long expireAfterRead(String key, TokenBucket bucket, long currentTime, long currentDuration) {
+            return bucket.fullRefillNanos();
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.moyeorak.auth_service.security;
+
+import io.jsonwebtoken.Claims;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+// 검증이 끝난 토큰의 클레임 (한 번 파싱한 결과를 그대로 재사용)
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class JwtClaims {
+
+    private final String email;
+    private final Long userId;
+    private final String role;
+    private final Long regionId;
+    private final String sessionId; // Refresh Token 전용
+    private final String tokenId;   // jti
+    private final Instant issuedAt;
+    private final Instant expiresAt;
+
+    static JwtClaims from(Claims claims) {
+        return new JwtClaims(
+                claims.getSubject(),
+                claims.get("userId", Long.class),
+                claims.get("roles", String.class),
+                claims.get("regionId", Long.class),
+                claims.get("sid", String.class),
+                claims.getId(),
+                claims.getIssuedAt().toInstant(),
+                claims.getExpiration().toInstant()
+        );
+    }
+}
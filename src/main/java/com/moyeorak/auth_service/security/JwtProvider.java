@@ -1,72 +1,68 @@
 package com.moyeorak.auth_service.security;
 
-import org.springframework.beans.factory.annotation.Value;
-import java.nio.charset.StandardCharsets;
 import io.jsonwebtoken.*;
-import jakarta.annotation.PostConstruct;
+import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Component;
 
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.FileInputStream;
-import java.nio.file.Files;
-import java.nio.file.Paths;
-import java.security.KeyFactory;
-import java.security.PrivateKey;
+import java.security.Key;
 import java.security.PublicKey;
-import java.security.interfaces.RSAPublicKey;
-import java.security.spec.PKCS8EncodedKeySpec;
-import java.security.spec.X509EncodedKeySpec;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Component
 public class JwtProvider {
-    @Value("${jwt.private-key-path}")
-    private String privateKeyPath;
-
-    @Value("${jwt.public-key-path}")
-    private String publicKeyPath;
-
-    private PrivateKey privateKey;
-
-    //RSA 개인키 로딩
-    @PostConstruct
-    public void init() {
-        try {
-            //ClassPathResource resource = new ClassPathResource("keys/private.pem");
-            //String key = Files.readString(resource.getFile().toPath());
-	    //String key = Files.readString(Paths.get(privateKeyPath), StandardCharsets.UTF_8);
-		
-            //key = key
-	    InputStream is;
-        	if (privateKeyPath != null && !privateKeyPath.isEmpty()) {
-            	    // 환경변수 경로가 있으면 파일 시스템에서 로딩
-            	    is = new FileInputStream(privateKeyPath);
-        	} else {
-            	    // 없으면 classpath에서 로딩 (테스트용)
-            	    is = new ClassPathResource("keys/private.pem").getInputStream();
-        	}
-            String key = new String(is.readAllBytes(), StandardCharsets.UTF_8)
-                    .replaceAll("-----BEGIN (.*)-----", "")
-                    .replaceAll("-----END (.*)-----", "")
-                    .replaceAll("\\R", ""); // 줄바꿈 제거
-
-            byte[] keyBytes = Base64.getDecoder().decode(key);
-            PKCS8EncodedKeySpec spec = new PKCS8EncodedKeySpec(keyBytes);
-            KeyFactory factory = KeyFactory.getInstance("RSA");
-
-            privateKey = factory.generatePrivate(spec);
-            log.info("RSA PrivateKey 로딩 완료");
-
-        } catch (IOException e) {
-            log.error("private.pem 파일 읽기 실패: {}", e.getMessage());
-        } catch (Exception e) {
-            log.error("RSA PrivateKey 파싱 실패: {}", e.getMessage());
-        }
+    public static final Duration ACCESS_TOKEN_VALIDITY = Duration.ofMinutes(30);
+    public static final Duration REFRESH_TOKEN_VALIDITY = Duration.ofDays(14);
+
+    private final KeyRing keyRing;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenRevocationList revocationList;
+    private final Timer signAccessTimer;
+    private final Timer signRefreshTimer;
+    private final Timer verifyValidTimer;
+    private final Timer verifyExpiredTimer;
+    private final Timer verifyInvalidSignatureTimer;
+    private final Timer verifyInvalidTimer;
+    private final Counter revokedCounter;
+
+    // 한 번만 생성 (불변 / thread-safe). 검증 키는 헤더의 kid로 key ring에서 조회
+    private final JwtParser parser;
+
+    public JwtProvider(KeyRing keyRing, VerifiedTokenCache verifiedTokenCache, TokenRevocationList revocationList,
+                       MeterRegistry meterRegistry) {
+        this.keyRing = keyRing;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.revocationList = revocationList;
+        this.signAccessTimer = Timer.builder("jwt.sign").tag("type", "access").register(meterRegistry);
+        this.signRefreshTimer = Timer.builder("jwt.sign").tag("type", "refresh").register(meterRegistry);
+        this.verifyValidTimer = verifyTimer("valid", meterRegistry);
+        this.verifyExpiredTimer = verifyTimer("expired", meterRegistry);
+        this.verifyInvalidSignatureTimer = verifyTimer("invalid_signature", meterRegistry);
+        this.verifyInvalidTimer = verifyTimer("invalid", meterRegistry);
+        this.revokedCounter = Counter.builder("jwt.revoked.rejections")
+                .description("폐기 목록에 걸려 거절된 토큰 수")
+                .register(meterRegistry);
+        this.parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    // jjwt 0.11 의 SigningKeyResolverAdapter 시그니처가 raw JwsHeader 라 JwsHeader<?> 로는 override 불가
+                    @SuppressWarnings("rawtypes")
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        PublicKey key = keyRing.getPublicKey(header.getKeyId());
+                        if (key == null) {
+                            throw new SignatureException("알 수 없는 kid: " + header.getKeyId());
+                        }
+                        return key;
+                    }
+                })
+                .build();
     }
 
     // 액세스 토큰 생성
@@ -76,30 +72,35 @@ public class JwtProvider {
         claims.put("roles", role);
         claims.put("regionId", regionId);
 
-        return createToken(email, claims, 1000L * 60 * 30); // 30분
+        return signAccessTimer.record(() -> createToken(email, claims, ACCESS_TOKEN_VALIDITY.toMillis())); // 30분
     }
 
-    //리프레시 토큰 생성
-    public String generateRefreshToken(String email, Long userId) {
+    //리프레시 토큰 생성 (sessionId: 로그인 세션 = 토큰 family 식별자)
+    public String generateRefreshToken(String email, Long userId, String sessionId) {
         Map<String, Object> claims = new HashMap<>();
         claims.put("userId", userId);
+        claims.put("sid", sessionId);
+        claims.put(Claims.ID, UUID.randomUUID().toString()); // jti - 같은 초에 발급돼도 토큰이 겹치지 않게
 
-        return createToken(email, claims, 1000L * 60 * 60 * 24 * 14); // 14일
+        return signRefreshTimer.record(() -> createToken(email, claims, REFRESH_TOKEN_VALIDITY.toMillis())); // 14일
     }
 
     // 토큰 생성 공통 함수
     private String createToken(String subject, Map<String, Object> claims, long expiryMillis) {
         Date now = new Date();
         Date expiry = new Date(now.getTime() + expiryMillis);
+        KeyMaterial key = keyRing.getActive();
 
+        // setClaims는 기존 클레임을 통째로 교체하므로 subject보다 먼저 호출해야 함
         return Jwts.builder()
-                .setSubject(subject)
+                .setHeaderParam(JwsHeader.KEY_ID, key.getKid())
                 .setClaims(claims)
+                .setSubject(subject)
                 .setIssuer("https://api.moyeorak.cloud/auth")
                 .setAudience("https://api.moyeorak.cloud")
                 .setIssuedAt(now)
                 .setExpiration(expiry)
-                .signWith(privateKey, SignatureAlgorithm.RS256)
+                .signWith(key.getPrivateKey(), key.getAlgorithm())
                 .compact();
     }
 
@@ -109,92 +110,64 @@ public class JwtProvider {
         return (bearer != null && bearer.startsWith("Bearer ")) ? bearer.substring(7) : null;
     }
 
+    // 서명 검증 + 클레임 파싱을 한 번에 수행 (실패 시 JwtException / IllegalArgumentException)
+    // 이미 검증된 토큰이면 캐시된 결과를 반환, 폐기 목록은 캐시 여부와 관계없이 매번 확인
+    public JwtClaims verify(String token) {
+        JwtClaims claims = verifiedTokenCache.get(token, this::parse);
+        if (claims.getUserId() != null
+                && revocationList.isRevoked(claims.getUserId(), claims.getIssuedAt().getEpochSecond())) {
+            revokedCounter.increment();
+            throw new RevokedTokenException(claims.getUserId());
+        }
+        return claims;
+    }
 
-
-    // 이 아래로 테스트용 완성되면 지울 예정
-    private PublicKey publicKey;
-
-    @PostConstruct
-    public void loadPublicKey() {
+    // 실제 서명 검증 시간 (캐시 적중은 jwt.verified-tokens 메트릭)
+    private JwtClaims parse(String token) {
+        long start = System.nanoTime();
+        Timer timer = verifyInvalidTimer;
         try {
-            //ClassPathResource resource = new ClassPathResource("keys/public.pem");
-            //String key = Files.readString(resource.getFile().toPath());
-	    //String key = Files.readString(Paths.get(publicKeyPath), StandardCharsets.UTF_8);
-
-            //key = key
-	    InputStream is;
-                if (publicKeyPath != null && !publicKeyPath.isEmpty()) {
-                    // 환경변수 경로가 있으면 파일 시스템에서 로딩
-                    is = new FileInputStream(publicKeyPath);
-                } else {
-                    // 없으면 classpath에서 로딩 (테스트용)
-                    is = new ClassPathResource("keys/public.pem").getInputStream();
-                }
-            String key = new String(is.readAllBytes(), StandardCharsets.UTF_8)
-                    .replaceAll("-----BEGIN (.*)-----", "")
-                    .replaceAll("-----END (.*)-----", "")
-                    .replaceAll("\\R", "");
-
-            byte[] keyBytes = Base64.getDecoder().decode(key);
-            X509EncodedKeySpec spec = new X509EncodedKeySpec(keyBytes);
-            KeyFactory factory = KeyFactory.getInstance("RSA");
-
-            publicKey = factory.generatePublic(spec);
-            log.info("RSA PublicKey loaded successfully");
-
-        } catch (Exception e) {
-            log.error("Failed to load public.pem", e);
+            JwtClaims claims = JwtClaims.from(parser.parseClaimsJws(token).getBody());
+            timer = verifyValidTimer;
+            return claims;
+        } catch (ExpiredJwtException e) {
+            timer = verifyExpiredTimer;
+            throw e;
+        } catch (SignatureException e) {
+            timer = verifyInvalidSignatureTimer;
+            throw e;
+        } finally {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
         }
     }
 
-    private Claims parseClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(publicKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    private static Timer verifyTimer(String outcome, MeterRegistry meterRegistry) {
+        return Timer.builder("jwt.verify").tag("outcome", outcome).register(meterRegistry);
     }
 
     public String getEmail(String token) {
-        return parseClaims(token).getSubject();
+        return verify(token).getEmail();
     }
 
     public String getRole(String token) {
-        return parseClaims(token).get("roles", String.class);
+        return verify(token).getRole();
     }
 
     public Long getUserId(String token) {
-        return parseClaims(token).get("userId", Long.class);
+        return verify(token).getUserId();
     }
 
     public Long getRegionId(String token) {
-        return parseClaims(token).get("regionId", Long.class);
+        return verify(token).getRegionId();
     }
 
     public boolean validateToken(String token) {
         try {
-            parseClaims(token);
+            verify(token);
             return true;
         } catch (JwtException | IllegalArgumentException e) {
             return false;
         }
     }
 
-    public Map<String, Object> getJwks() {
-        RSAPublicKey rsaPublicKey = (RSAPublicKey) this.publicKey;
-
-        Map<String, Object> key = new HashMap<>();
-        key.put("kty", "RSA");
-        key.put("alg", "RS256");
-        key.put("use", "sig");
-        key.put("kid", "moyeorak-key-1"); // 원하는 ID 부여
-        key.put("n", Base64.getUrlEncoder().withoutPadding().encodeToString(rsaPublicKey.getModulus().toByteArray()));
-        key.put("e", Base64.getUrlEncoder().withoutPadding().encodeToString(rsaPublicKey.getPublicExponent().toByteArray()));
-
-        Map<String, Object> jwks = new HashMap<>();
-        jwks.put("keys", List.of(key));
-
-        return jwks;
-    }
-
 }
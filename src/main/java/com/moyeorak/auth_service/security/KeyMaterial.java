@@ -0,0 +1,113 @@
+package com.moyeorak.auth_service.security;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.InvalidKeySpecException;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// PEM에서 한 번만 디코딩한 키 한 쌍 + 미리 계산한 JWK (공개 전용 키는 privateKey == null)
+// 서명 알고리즘은 키 종류로 결정: RSA → RS256, EC P-256/384/521 → ES256/384/512
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class KeyMaterial {
+
+    private final String kid;
+    private final SignatureAlgorithm algorithm;
+    private final PrivateKey privateKey;
+    private final PublicKey publicKey;
+    private final Map<String, Object> jwk;
+
+    public boolean canSign() {
+        return privateKey != null;
+    }
+
+    // privatePem 은 null 가능 (PKCS#8 / X.509 PEM)
+    public static KeyMaterial of(String kid, byte[] privatePem, byte[] publicPem) throws GeneralSecurityException {
+        X509EncodedKeySpec publicSpec = new X509EncodedKeySpec(decodePem(publicPem));
+        KeyFactory factory;
+        PublicKey publicKey;
+        try {
+            factory = KeyFactory.getInstance("RSA");
+            publicKey = factory.generatePublic(publicSpec);
+        } catch (InvalidKeySpecException e) {
+            factory = KeyFactory.getInstance("EC");
+            publicKey = factory.generatePublic(publicSpec);
+        }
+        PrivateKey privateKey = privatePem != null
+                ? factory.generatePrivate(new PKCS8EncodedKeySpec(decodePem(privatePem)))
+                : null;
+
+        Map<String, Object> jwk = new LinkedHashMap<>();
+        SignatureAlgorithm algorithm;
+        if (publicKey instanceof RSAPublicKey rsa) {
+            algorithm = SignatureAlgorithm.RS256;
+            jwk.put("kty", "RSA");
+            jwk.put("alg", algorithm.getValue());
+            jwk.put("use", "sig");
+            jwk.put("kid", kid); // ← 토큰 header의 kid와 동일
+            jwk.put("n", base64UrlUnsigned(rsa.getModulus(), 0));
+            jwk.put("e", base64UrlUnsigned(rsa.getPublicExponent(), 0));
+        } else {
+            ECPublicKey ec = (ECPublicKey) publicKey;
+            int fieldSize = ec.getParams().getCurve().getField().getFieldSize();
+            algorithm = switch (fieldSize) {
+                case 256 -> SignatureAlgorithm.ES256;
+                case 384 -> SignatureAlgorithm.ES384;
+                case 521 -> SignatureAlgorithm.ES512;
+                default -> throw new InvalidKeySpecException("지원하지 않는 EC 커브: " + fieldSize + "bit");
+            };
+            // x, y는 커브 크기에 맞춘 고정 길이
+            int length = (fieldSize + 7) / 8;
+            jwk.put("kty", "EC");
+            jwk.put("alg", algorithm.getValue());
+            jwk.put("use", "sig");
+            jwk.put("kid", kid);
+            jwk.put("crv", "P-" + fieldSize);
+            jwk.put("x", base64UrlUnsigned(ec.getW().getAffineX(), length));
+            jwk.put("y", base64UrlUnsigned(ec.getW().getAffineY(), length));
+        }
+
+        return new KeyMaterial(kid, algorithm, privateKey, publicKey, Collections.unmodifiableMap(jwk));
+    }
+
+    // BEGIN/END 라인 사이의 본문만 디코딩 (MIME 디코더가 줄바꿈/공백을 무시)
+    static byte[] decodePem(byte[] pem) {
+        String text = new String(pem, StandardCharsets.US_ASCII);
+        int begin = text.indexOf("-----BEGIN");
+        int bodyStart = begin < 0 ? 0 : text.indexOf('\n', begin) + 1;
+        int end = text.indexOf("-----END", bodyStart);
+        return Base64.getMimeDecoder().decode(text.substring(bodyStart, end < 0 ? text.length() : end));
+    }
+
+    // length > 0 이면 앞을 0으로 채워 고정 길이로 인코딩
+    private static String base64UrlUnsigned(BigInteger i, int length) {
+        // BigInteger.toByteArray()는 선행 0x00(부호 바이트)이 붙을 수 있어 제거 필요
+        byte[] bytes = i.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0x00) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        if (bytes.length < length) {
+            byte[] padded = new byte[length];
+            System.arraycopy(bytes, 0, padded, length - bytes.length, bytes.length);
+            bytes = padded;
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
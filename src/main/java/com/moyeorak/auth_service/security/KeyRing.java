@@ -0,0 +1,215 @@
+package com.moyeorak.auth_service.security;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.security.PublicKey;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/*
+ * JWT 서명/검증 키 묶음.
+ *
+ * jwt.key-dir 가 설정되면 디렉터리의 키를 모두 올리고 WatchService로 변경을 감시한다.
+ *   {kid}.public.pem  : 공개키 (JWKS 게시 + 검증)
+ *   {kid}.private.pem : 개인키 (있으면 서명 가능)
+ *   active-kid        : 서명에 쓸 kid (없으면 jwt.active-kid)
+ * 교체 순서: 새 키(next)를 공개키만 먼저 올려 게이트웨이 JWKS 캐시에 퍼지게 한 뒤
+ * active-kid 를 바꾸고, 이전 키(retiring)는 발급 토큰이 모두 만료된 후 삭제한다.
+ *
+ * RSA(RS256)와 EC(ES256) 키를 섞어 올릴 수 있다. 알고리즘 전환도 같은 순서로:
+ * EC 키를 함께 게시(dual-publish) → active-kid 를 EC 키로 변경 → RSA 키 제거.
+ *   openssl ecparam -name prime256v1 -genkey -noout | openssl pkcs8 -topk8 -nocrypt
+ *
+ * jwt.key-dir 가 없으면 기존처럼 private/public-key-path 의 단일 키를 사용한다.
+ */
+@Slf4j
+@Component
+public class KeyRing {
+
+    // jwt.active-kid 미설정 시 기본값
+    public static final String DEFAULT_KID = "moyeorak-key-1";
+
+    private static final String PUBLIC_SUFFIX = ".public.pem";
+    private static final String PRIVATE_SUFFIX = ".private.pem";
+    private static final String ACTIVE_KID_FILE = "active-kid";
+
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final WellKnownDocuments wellKnownDocuments;
+
+    private final String keyDir;
+    private final String defaultActiveKid;
+    // kid 헤더가 없는 (교체 도입 이전에 발급된) 토큰은 이 kid로 검증 - 교체 후 active 가 바뀌어도 그대로
+    private final String legacyKid;
+    private final String privateKeyPath;
+    private final String publicKeyPath;
+
+    private volatile Map<String, KeyMaterial> keys = Collections.emptyMap();
+    private volatile KeyMaterial active;
+
+    private WatchService watchService;
+
+    public KeyRing(VerifiedTokenCache verifiedTokenCache,
+                   WellKnownDocuments wellKnownDocuments,
+                   @Value("${jwt.key-dir:}") String keyDir,
+                   @Value("${jwt.active-kid:" + DEFAULT_KID + "}") String defaultActiveKid,
+                   @Value("${jwt.private-key-path:}") String privateKeyPath,
+                   @Value("${jwt.public-key-path:}") String publicKeyPath) {
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.wellKnownDocuments = wellKnownDocuments;
+        this.keyDir = keyDir;
+        this.defaultActiveKid = defaultActiveKid;
+        this.legacyKid = defaultActiveKid;
+        this.privateKeyPath = privateKeyPath;
+        this.publicKeyPath = publicKeyPath;
+    }
+
+    @PostConstruct
+    public void init() throws IOException {
+        if (keyDir == null || keyDir.isEmpty()) {
+            loadSingleKey();
+            return;
+        }
+        reload();
+        startWatcher(Paths.get(keyDir));
+    }
+
+    @PreDestroy
+    public void stop() throws IOException {
+        if (watchService != null) {
+            watchService.close();
+        }
+    }
+
+    // 서명용 키
+    public KeyMaterial getActive() {
+        return active;
+    }
+
+    // 검증용 공개키 (모르는 kid면 null)
+    public PublicKey getPublicKey(String kid) {
+        KeyMaterial key = keys.get(kid != null ? kid : legacyKid);
+        return key != null ? key.getPublicKey() : null;
+    }
+
+    // JWKS에 게시할 키 목록 (current + next + retiring)
+    public Collection<KeyMaterial> getPublishedKeys() {
+        return keys.values();
+    }
+
+    // 디렉터리 전체를 다시 읽어서 한 번에 교체. 실패 시 기존 키를 그대로 유지
+    public synchronized void reload() {
+        Path dir = Paths.get(keyDir);
+        try {
+            Map<String, KeyMaterial> loaded = new TreeMap<>();
+            try (Stream<Path> files = Files.list(dir)) {
+                for (Path file : (Iterable<Path>) files::iterator) {
+                    String name = file.getFileName().toString();
+                    if (!name.endsWith(PUBLIC_SUFFIX)) {
+                        continue;
+                    }
+                    String kid = name.substring(0, name.length() - PUBLIC_SUFFIX.length());
+                    Path privateFile = dir.resolve(kid + PRIVATE_SUFFIX);
+                    byte[] privatePem = Files.exists(privateFile) ? Files.readAllBytes(privateFile) : null;
+                    loaded.put(kid, KeyMaterial.of(kid, privatePem, Files.readAllBytes(file)));
+                }
+            }
+
+            Path activeFile = dir.resolve(ACTIVE_KID_FILE);
+            String activeKid = Files.exists(activeFile)
+                    ? Files.readString(activeFile).trim()
+                    : defaultActiveKid;
+            KeyMaterial newActive = loaded.get(activeKid);
+            if (newActive == null || !newActive.canSign()) {
+                throw new IllegalStateException("active kid의 개인키가 없음: " + activeKid);
+            }
+
+            publish(loaded, newActive);
+        } catch (Exception e) {
+            if (active == null) {
+                throw new IllegalStateException("JWT 키 로딩 실패: " + dir, e);
+            }
+            log.error("JWT 키 재로딩 실패 - 기존 키 유지 (active kid: {})", active.getKid(), e);
+        }
+    }
+
+    private void publish(Map<String, KeyMaterial> loaded, KeyMaterial newActive) {
+        this.keys = Collections.unmodifiableMap(loaded);
+        this.active = newActive;
+        // 키가 바뀌면 이전 키로 검증된 결과는 모두 무효
+        verifiedTokenCache.invalidateAll();
+        wellKnownDocuments.refresh(loaded.values());
+        log.info("JWT key ring 로딩 완료 - active: {}, published: {}", newActive.getKid(), loaded.keySet());
+    }
+
+    private void loadSingleKey() {
+        byte[] privatePem = null;
+        try (InputStream is = open(privateKeyPath, "keys/private.pem")) {
+            privatePem = is.readAllBytes();
+        } catch (IOException e) {
+            log.error("private.pem 파일 읽기 실패: {}", e.getMessage());
+        }
+
+        try (InputStream is = open(publicKeyPath, "keys/public.pem")) {
+            KeyMaterial key = KeyMaterial.of(defaultActiveKid, privatePem, is.readAllBytes());
+            publish(Map.of(key.getKid(), key), key);
+        } catch (Exception e) {
+            log.error("JWT 키 로딩 실패", e);
+        }
+    }
+
+    private void startWatcher(Path dir) throws IOException {
+        watchService = dir.getFileSystem().newWatchService();
+        dir.register(watchService,
+                StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY,
+                StandardWatchEventKinds.ENTRY_DELETE);
+
+        Thread watcher = new Thread(() -> {
+            try {
+                while (true) {
+                    WatchKey key = watchService.take();
+                    // 파일 여러 개가 연달아 바뀌는 경우(시크릿 마운트 교체 등)를 한 번에 반영
+                    Thread.sleep(500);
+                    key.pollEvents();
+                    reload();
+                    if (!key.reset()) {
+                        log.error("JWT 키 디렉터리 감시 중단: {}", dir);
+                        return;
+                    }
+                }
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, "jwt-key-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
+        log.info("JWT 키 디렉터리 감시 시작: {}", dir);
+    }
+
+    private static InputStream open(String path, String classpathFallback) throws IOException {
+        if (path != null && !path.isEmpty()) {
+            // 환경변수 경로가 있으면 파일 시스템에서 로딩
+            return new FileInputStream(path);
+        }
+        // 없으면 classpath에서 로딩 (테스트용)
+        return new ClassPathResource(classpathFallback).getInputStream();
+    }
+}
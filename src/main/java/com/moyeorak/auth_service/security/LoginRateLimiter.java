@@ -0,0 +1,13 @@
+package com.moyeorak.auth_service.security;
+
+/*
+ * 로그인 시도 제한용 token bucket SPI. auth.login-rate-limit.store 로 구현 선택
+ *   memory (기본) : 프로세스 내 버킷 (노드마다 따로 계산)
+ *   redis         : Redis 프로토콜 서버 (spring.data.redis.*), 노드 간 공유
+ */
+public interface LoginRateLimiter {
+
+    // 토큰 1개 소비. 허용이면 0, 거절이면 다음 토큰까지 남은 밀리초
+    // capacity: 연속으로 허용하는 시도 수, refillMillis: 토큰 1개가 다시 채워지는 간격
+    long tryAcquire(String key, long capacity, long refillMillis);
+}
@@ -0,0 +1,65 @@
+package com.moyeorak.auth_service.security;
+
+import com.moyeorak.auth_service.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 로그인 시도 제한 (IP 별 + 계정(email) 별), DB 조회 / 비밀번호 해시 전에 호출
+@Slf4j
+@Component
+public class LoginThrottle {
+
+    private final LoginRateLimiter rateLimiter;
+    private final boolean enabled;
+    private final long emailCapacity;
+    private final long emailRefillMillis;
+    private final long ipCapacity;
+    private final long ipRefillMillis;
+    private final Counter emailThrottled;
+    private final Counter ipThrottled;
+
+    public LoginThrottle(LoginRateLimiter rateLimiter,
+                         @Value("${auth.login-rate-limit.enabled:true}") boolean enabled,
+                         @Value("${auth.login-rate-limit.email.capacity:10}") long emailCapacity,
+                         @Value("${auth.login-rate-limit.email.refill-interval-ms:30000}") long emailRefillMillis,
+                         @Value("${auth.login-rate-limit.ip.capacity:50}") long ipCapacity,
+                         @Value("${auth.login-rate-limit.ip.refill-interval-ms:1000}") long ipRefillMillis,
+                         MeterRegistry meterRegistry) {
+        this.rateLimiter = rateLimiter;
+        this.enabled = enabled;
+        this.emailCapacity = emailCapacity;
+        this.emailRefillMillis = emailRefillMillis;
+        this.ipCapacity = ipCapacity;
+        this.ipRefillMillis = ipRefillMillis;
+        this.emailThrottled = meterRegistry.counter("auth.login.throttled", "limit", "email");
+        this.ipThrottled = meterRegistry.counter("auth.login.throttled", "limit", "ip");
+    }
+
+    // 초과 시 TooManyRequestsException (429). IP 에서 거절되면 계정 버킷은 소비하지 않음
+    public void check(String normalizedEmail, String clientIp) {
+        if (!enabled) {
+            return;
+        }
+        if (clientIp != null) {
+            long wait = rateLimiter.tryAcquire("ip:" + clientIp, ipCapacity, ipRefillMillis);
+            if (wait > 0) {
+                ipThrottled.increment();
+                log.debug("로그인 시도 제한 (IP) - ip: {}", clientIp);
+                throw new TooManyRequestsException(toSeconds(wait));
+            }
+        }
+        long wait = rateLimiter.tryAcquire("email:" + normalizedEmail, emailCapacity, emailRefillMillis);
+        if (wait > 0) {
+            emailThrottled.increment();
+            log.debug("로그인 시도 제한 (계정) - email: {}", normalizedEmail);
+            throw new TooManyRequestsException(toSeconds(wait));
+        }
+    }
+
+    private static long toSeconds(long millis) {
+        return Math.max(1, (millis + 999) / 1000);
+    }
+}
@@ -0,0 +1,114 @@
+package com.moyeorak.auth_service.security;
+
+import com.moyeorak.auth_service.exception.ServiceBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+ * 해시 연산(BCrypt 등)을 톰캣 요청 스레드가 아닌 전용 풀(코어 수)에서 실행.
+ * 대기열이 가득 차면 바로 ServiceBusyException(503 + Retry-After)으로 거절해서
+ * 로그인 폭주 중에도 /internal/users/{id} 같은 가벼운 요청이 CPU와 스레드를 잃지 않게 한다.
+ */
+@Slf4j
+public class OffloadingPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long retryAfterSeconds;
+    private final Counter rejected;
+    // 풀 스레드에서 측정한 순수 해시 시간 (대기 시간은 executor 메트릭)
+    private final Timer encodeTimer;
+    private final Timer matchTimer;
+    private final Timer mismatchTimer;
+
+    public OffloadingPasswordEncoder(PasswordEncoder delegate, int poolSize, int queueCapacity,
+                                     long retryAfterSeconds, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new HashingThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy());
+        ExecutorServiceMetrics.monitor(meterRegistry, executor, "password.hashing");
+        this.rejected = Counter.builder("password.hashing.rejected")
+                .description("대기열 초과로 거절된 해시 요청 수")
+                .register(meterRegistry);
+        this.encodeTimer = hashTimer(meterRegistry, "encode", "success");
+        this.matchTimer = hashTimer(meterRegistry, "matches", "match");
+        this.mismatchTimer = hashTimer(meterRegistry, "matches", "mismatch");
+        log.info("비밀번호 해시 풀 생성 - threads: {}, queue: {}", poolSize, queueCapacity);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(() -> encodeTimer.recordCallable(() -> delegate.encode(rawPassword)));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(() -> {
+            long start = System.nanoTime();
+            boolean matched = delegate.matches(rawPassword, encodedPassword);
+            (matched ? matchTimer : mismatchTimer).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return matched;
+        });
+    }
+
+    // 해시 문자열만 보는 가벼운 연산이라 호출 스레드에서 바로 실행
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private static Timer hashTimer(MeterRegistry meterRegistry, String operation, String outcome) {
+        return Timer.builder("password.hashing.duration")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private <T> T run(Callable<T> task) {
+        try {
+            return executor.submit(task).get();
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new ServiceBusyException(retryAfterSeconds);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 해시 대기 중 인터럽트", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("비밀번호 해시 실패", e.getCause());
+        }
+    }
+
+    // spring.threads.virtual.enabled 여부와 관계없이 플랫폼 스레드 (CPU 연산이 가상 스레드 carrier 를 점유하지 않게)
+    private static class HashingThreadFactory implements ThreadFactory {
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
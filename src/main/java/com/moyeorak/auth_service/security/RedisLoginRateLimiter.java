@@ -0,0 +1,56 @@
+package com.moyeorak.auth_service.security;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/*
+ * Redis 기반 token bucket (노드 간 공유)
+ *   auth:login-rl:{sha256(key)}   hash (tokens, ts), 가득 찰 시간 뒤 PEXPIRE
+ * 충전 계산과 소비를 Lua 스크립트 한 번으로 원자적으로 처리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "auth.login-rate-limit.store", havingValue = "redis")
+public class RedisLoginRateLimiter implements LoginRateLimiter {
+
+    private static final String KEY_PREFIX = "auth:login-rl:";
+
+    // ARGV: capacity, refillMillis, nowMillis → 허용 0 / 거절 시 대기 밀리초
+    private static final RedisScript<Long> TRY_ACQUIRE = new DefaultRedisScript<>(
+            "local capacity = tonumber(ARGV[1]) "
+                    + "local refill = tonumber(ARGV[2]) "
+                    + "local now = tonumber(ARGV[3]) "
+                    + "local state = redis.call('HMGET', KEYS[1], 'tokens', 'ts') "
+                    + "local tokens = tonumber(state[1]) or capacity "
+                    + "local ts = tonumber(state[2]) or now "
+                    + "tokens = math.min(capacity, tokens + math.max(0, now - ts) / refill) "
+                    + "local wait = 0 "
+                    + "if tokens < 1 then wait = math.ceil((1 - tokens) * refill) else tokens = tokens - 1 end "
+                    + "redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', tostring(now)) "
+                    + "redis.call('PEXPIRE', KEYS[1], capacity * refill) "
+                    + "return wait", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public long tryAcquire(String key, long capacity, long refillMillis) {
+        try {
+            Long wait = redisTemplate.execute(TRY_ACQUIRE, List.of(KEY_PREFIX + TokenDigest.sha256Hex(key)),
+                    String.valueOf(capacity), String.valueOf(refillMillis), String.valueOf(System.currentTimeMillis()));
+            return wait == null ? 0 : wait;
+        } catch (DataAccessException e) {
+            // 저장소 장애로 로그인 전체가 막히지 않게 허용 (fail-open)
+            log.warn("로그인 시도 제한 저장소 오류 - 제한 없이 허용: {}", e.getMessage());
+            return 0;
+        }
+    }
+}
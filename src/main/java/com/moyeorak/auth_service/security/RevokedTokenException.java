@@ -0,0 +1,11 @@
+package com.moyeorak.auth_service.security;
+
+import io.jsonwebtoken.JwtException;
+
+// 서명은 유효하지만 폐기 목록에 걸린 토큰
+public class RevokedTokenException extends JwtException {
+
+    public RevokedTokenException(Long userId) {
+        super("폐기된 토큰 - userId: " + userId);
+    }
+}
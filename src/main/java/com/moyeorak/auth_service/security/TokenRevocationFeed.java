@@ -0,0 +1,93 @@
+package com.moyeorak.auth_service.security;
+
+import com.moyeorak.auth_service.entity.TokenRevocation;
+import com.moyeorak.auth_service.repository.TokenRevocationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.List;
+
+/*
+ * 노드 간 공유되는 Access Token 폐기 (원본: token_revocations 테이블, 사용자당 한 행)
+ * - 로그아웃한 노드는 DB 기록과 함께 로컬 목록에 바로 반영
+ * - 다른 노드는 sync() 로 주기적으로 가져와 TokenRevocationList 에 반영
+ * - 게이트웨이 피드(/internal/revocations)도 DB 에서 읽으므로 어느 노드가 응답해도, 재시작 후에도 같은 결과
+ *
+ * not-before 는 epoch seconds 로 올림 (같은 초에 먼저 발급된 토큰도 폐기, TokenRevocationList.notBeforeNow).
+ * 커서는 not-before 기준. 커밋 지연 / 노드 간 시계 차이만큼 겹쳐 읽고(overlap),
+ * 겹친 항목은 더 늦은 not-before 만 유지하므로 중복 적용해도 결과가 같다.
+ * 복제 지연 동안 놓치지 않도록 조회는 읽기 전용이 아닌 트랜잭션(primary)에서 한다.
+ */
+@Slf4j
+@Component
+public class TokenRevocationFeed {
+
+    private final TokenRevocationRepository revocationRepository;
+    private final TokenRevocationList revocationList;
+    private final long overlapSeconds;
+
+    // 마지막으로 반영한 시점 (0 이면 보관 기간 전체를 읽음)
+    private volatile long syncedUntil;
+
+    public TokenRevocationFeed(TokenRevocationRepository revocationRepository,
+                               TokenRevocationList revocationList,
+                               @Value("${auth.revocation.sync-overlap-seconds:5}") long overlapSeconds) {
+        this.revocationRepository = revocationRepository;
+        this.revocationList = revocationList;
+        this.overlapSeconds = overlapSeconds;
+    }
+
+    // 지금까지 발급된 해당 사용자의 토큰 모두 폐기 (호출한 트랜잭션과 함께 커밋)
+    // 로컬 목록은 커밋 후 반영 - 롤백되면 DB / 다른 노드와 마찬가지로 이 노드도 폐기하지 않음
+    @Transactional
+    public void revokeUser(long userId) {
+        long notBefore = TokenRevocationList.notBeforeNow();
+        revocationRepository.upsert(userId, notBefore);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            revocationList.revoke(userId, notBefore);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                revocationList.revoke(userId, notBefore);
+            }
+        });
+    }
+
+    // since 이후 폐기 항목 (overlap 만큼 앞에서부터). 보관 기간이 지난 항목은 이미 만료된 토큰이라 빠져도 됨
+    @Transactional
+    public List<TokenRevocation> changesSince(long since) {
+        return revocationRepository.findAllSince(Math.max(0, since - overlapSeconds));
+    }
+
+    // 다른 노드의 로그아웃 반영, 첫 실행(기동 직후)은 보관 기간 전체
+    @Scheduled(fixedDelayString = "${auth.revocation.sync-interval-ms:1000}")
+    @Transactional
+    public void sync() {
+        long startedAt = Instant.now().getEpochSecond();
+        List<TokenRevocation> changes = changesSince(syncedUntil);
+        for (TokenRevocation revocation : changes) {
+            revocationList.revoke(revocation.getUserId(), revocation.getNotBefore());
+        }
+        syncedUntil = startedAt;
+        log.trace("폐기 목록 동기화 - {}건 조회, 현재 {}명", changes.size(), revocationList.size());
+    }
+
+    // 보관 기간(Access Token 유효기간)이 지난 행 정리
+    @Scheduled(fixedDelay = 60_000)
+    @Transactional
+    public void purgeExpired() {
+        int deleted = revocationRepository.deleteAllBefore(
+                Instant.now().getEpochSecond() - TokenRevocationList.RETENTION_SECONDS);
+        if (deleted > 0) {
+            log.debug("만료된 폐기 항목 정리 - {}건", deleted);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.moyeorak.auth_service.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/*
+ * Access Token 폐기 목록 (userId → not-before).
+ * iat 가 not-before 보다 이전인 토큰은 검증 시 거절된다.
+ *
+ * 조회는 요청마다 일어나므로 잠금 없이 primitive long 배열(open addressing)에서 찾고,
+ * 드문 쓰기(로그아웃)는 새 배열을 만들어 통째로 교체한다(copy-on-write).
+ * Access Token 유효기간이 지난 항목은 의미가 없으므로 쓰기 / 주기 정리 시 제거해 크기를 작게 유지한다.
+ *
+ * 이 목록은 인스턴스 로컬 사본이다. 원본은 DB(token_revocations)이고
+ * TokenRevocationFeed 가 다른 노드의 폐기를 주기적으로 가져와 반영한다.
+ */
+@Slf4j
+@Component
+public class TokenRevocationList {
+
+    static final long RETENTION_SECONDS = JwtProvider.ACCESS_TOKEN_VALIDITY.getSeconds();
+
+    private volatile Table table = Table.EMPTY;
+
+    // 지금까지 발급된 해당 사용자의 토큰 모두 폐기
+    public void revokeUser(long userId) {
+        revoke(userId, notBeforeNow());
+    }
+
+    // 지금 폐기할 때의 not-before (epoch seconds, 올림).
+    // iat 는 초 단위(내림)라 현재 초로 두면 같은 초에 먼저 발급된 토큰이 살아남으므로 다음 초로 올린다.
+    // 대신 폐기 직후 같은 초 안에 새로 발급된 토큰(로그아웃 직후 재로그인)도 폐기됨 - 1초 뒤 다시 로그인하면 됨
+    public static long notBeforeNow() {
+        long nowMillis = System.currentTimeMillis();
+        return Math.floorDiv(nowMillis + 999, 1000);
+    }
+
+    // 이미 더 늦은 not-before 가 있으면 유지 (같은 이벤트를 여러 번 받아도 결과가 같음)
+    public synchronized void revoke(long userId, long notBefore) {
+        long threshold = Instant.now().getEpochSecond() - RETENTION_SECONDS;
+        if (notBefore < threshold || table.get(userId) >= notBefore) {
+            return;
+        }
+        table = table.with(userId, notBefore, threshold);
+        log.debug("Access Token 폐기 - userId: {}, notBefore: {}", userId, notBefore);
+    }
+
+    public boolean isRevoked(long userId, long issuedAtEpochSecond) {
+        Table current = table;
+        if (current.size == 0) {
+            return false;
+        }
+        long notBefore = current.get(userId);
+        return notBefore != Table.ABSENT && issuedAtEpochSecond < notBefore;
+    }
+
+    public int size() {
+        return table.size;
+    }
+
+    @Scheduled(fixedDelay = 60_000)
+    public synchronized void purgeExpired() {
+        long threshold = Instant.now().getEpochSecond() - RETENTION_SECONDS;
+        if (table.size > 0) {
+            table = table.without(threshold);
+        }
+    }
+
+    // 불변 long → long open addressing 테이블 (load factor ≤ 0.5)
+    private static final class Table {
+        static final long ABSENT = Long.MIN_VALUE;
+        static final Table EMPTY = new Table(new long[2], new long[2], new boolean[2], 0);
+
+        final long[] keys;
+        final long[] values;
+        final boolean[] used;
+        final int size;
+
+        private Table(long[] keys, long[] values, boolean[] used, int size) {
+            this.keys = keys;
+            this.values = values;
+            this.used = used;
+            this.size = size;
+        }
+
+        long get(long key) {
+            int mask = keys.length - 1;
+            for (int i = index(key, mask); used[i]; i = (i + 1) & mask) {
+                if (keys[i] == key) {
+                    return values[i];
+                }
+            }
+            return ABSENT;
+        }
+
+        // key 추가 / 갱신하면서 threshold 이전 항목은 버린 새 테이블
+        Table with(long key, long value, long threshold) {
+            Builder builder = new Builder(size + 1);
+            copyLive(builder, threshold);
+            builder.put(key, value);
+            return builder.build();
+        }
+
+        Table without(long threshold) {
+            Builder builder = new Builder(size);
+            copyLive(builder, threshold);
+            return builder.build();
+        }
+
+        private void copyLive(Builder builder, long threshold) {
+            for (int i = 0; i < keys.length; i++) {
+                if (used[i] && values[i] >= threshold) {
+                    builder.put(keys[i], values[i]);
+                }
+            }
+        }
+
+        private static int index(long key, int mask) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32)) & mask;
+        }
+
+        private static final class Builder {
+            final long[] keys;
+            final long[] values;
+            final boolean[] used;
+            int size;
+
+            Builder(int expected) {
+                int capacity = Integer.highestOneBit(Math.max(expected, 1) * 2 - 1) << 1;
+                keys = new long[capacity];
+                values = new long[capacity];
+                used = new boolean[capacity];
+            }
+
+            void put(long key, long value) {
+                int mask = keys.length - 1;
+                int i = index(key, mask);
+                while (used[i] && keys[i] != key) {
+                    i = (i + 1) & mask;
+                }
+                if (!used[i]) {
+                    used[i] = true;
+                    keys[i] = key;
+                    size++;
+                }
+                values[i] = value;
+            }
+
+            Table build() {
+                return new Table(keys, values, used, size);
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.moyeorak.auth_service.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.Function;
+
+// 서명 검증이 끝난 토큰 캐시 (키: 토큰 SHA-256 digest, 만료: 토큰 exp)
+@Slf4j
+@Component
+public class VerifiedTokenCache {
+
+    private final Cache<String, JwtClaims> cache;
+
+    public VerifiedTokenCache(@Value("${jwt.verify-cache.enabled:true}") boolean enabled,
+                              @Value("${jwt.verify-cache.max-size:10000}") long maxSize,
+                              MeterRegistry meterRegistry) {
+        if (!enabled) {
+            this.cache = null;
+            log.info("검증 토큰 캐시 비활성화");
+            return;
+        }
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new ExpireAtTokenExp())
+                .recordStats()
+                .build();
+        // cache.gets{result=hit|miss}, cache.evictions 등 노출
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt.verified-tokens");
+    }
+
+    public JwtClaims get(String token, Function<String, JwtClaims> verifier) {
+        if (cache == null) {
+            return verifier.apply(token);
+        }
+        // 검증 실패 시 예외가 그대로 전파되고 캐시에는 남지 않음
+        return cache.get(TokenDigest.sha256Hex(token), key -> verifier.apply(token));
+    }
+
+    // 키 교체 시 호출
+    public void invalidateAll() {
+        if (cache != null) {
+            cache.invalidateAll();
+        }
+    }
+
+    // 엔트리마다 토큰 자체의 exp 시점에 만료
+    private static class ExpireAtTokenExp implements Expiry<String, JwtClaims> {
+
+        @Override
+        public long expireAfterCreate(String key, JwtClaims claims, long currentTime) {
+            long remaining = Duration.between(Instant.now(), claims.getExpiresAt()).toNanos();
+            return Math.max(remaining, 0);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, JwtClaims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, JwtClaims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
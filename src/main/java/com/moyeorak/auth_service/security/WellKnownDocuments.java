@@ -0,0 +1,105 @@
+package com.moyeorak.auth_service.security;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// JWKS / OpenID discovery 문서를 키 로딩 시점에 한 번만 직렬화해 두고 재사용
+@Slf4j
+@Component
+public class WellKnownDocuments {
+
+    // 반드시 토큰의 iss와 정확히 일치해야 함
+    private static final String ISSUER = "https://api.moyeorak.cloud/auth";
+
+    private final ObjectMapper objectMapper;
+    private final CacheControl cacheControl;
+
+    private volatile Document jwks;
+    private volatile Document openidConfiguration;
+
+    public WellKnownDocuments(ObjectMapper objectMapper,
+                              @Value("${jwt.jwks.max-age-seconds:300}") long maxAgeSeconds) {
+        this.objectMapper = objectMapper;
+        this.cacheControl = CacheControl.maxAge(Duration.ofSeconds(maxAgeSeconds)).cachePublic();
+    }
+
+    // key ring이 (다시) 로딩될 때 호출
+    public void refresh(Collection<KeyMaterial> keys) {
+        List<Map<String, Object>> jwkList = new ArrayList<>();
+        Set<String> algorithms = new LinkedHashSet<>();
+        for (KeyMaterial key : keys) {
+            jwkList.add(key.getJwk());
+            algorithms.add(key.getAlgorithm().getValue());
+        }
+
+        Map<String, Object> doc = new LinkedHashMap<>();
+        doc.put("issuer", ISSUER);
+        doc.put("jwks_uri", ISSUER + "/.well-known/jwks.json");
+        // 최소 필드만 넣어도 되지만 아래 값들은 관례적으로 포함
+        doc.put("id_token_signing_alg_values_supported", List.copyOf(algorithms));
+        doc.put("response_types_supported", List.of("token"));
+        doc.put("subject_types_supported", List.of("public"));
+
+        this.jwks = render(Map.of("keys", jwkList));
+        this.openidConfiguration = render(doc);
+        log.info("JWKS / OpenID 문서 갱신 - etag: {}", jwks.getEtag());
+    }
+
+    public Document getJwks() {
+        return jwks;
+    }
+
+    public Document getOpenidConfiguration() {
+        return openidConfiguration;
+    }
+
+    private Document render(Map<String, Object> body) {
+        try {
+            byte[] bytes = objectMapper.writeValueAsBytes(body);
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(bytes);
+            String etag = "\"" + Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(Arrays.copyOf(hash, 16)) + "\"";
+            return new Document(bytes, etag, cacheControl);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("well-known 문서 직렬화 실패", e);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Document {
+        private final byte[] body;
+        private final String etag; // strong ETag (따옴표 포함)
+        private final CacheControl cacheControl;
+
+        // If-None-Match가 ETag와 같으면 HttpEntityMethodProcessor가 본문 없이 304로 응답
+        public ResponseEntity<byte[]> toResponse() {
+            return ResponseEntity.ok()
+                    .eTag(etag)
+                    .cacheControl(cacheControl)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(body);
+        }
+    }
+}
@@ -6,7 +6,8 @@ import com.moyeorak.auth_service.dto.UserLoginResponseDto;
 
 public interface AuthService {
 
-    UserLoginResponseDto login(UserLoginRequestDto dto);
+    // clientIp: 시도 횟수 제한용 (없으면 계정 기준만 적용)
+    UserLoginResponseDto login(UserLoginRequestDto dto, String clientIp);
     void logout(Long userId);
     TokenResponseDto refreshAccessToken(String refreshToken);
 
@@ -3,16 +3,34 @@ package com.moyeorak.auth_service.service;
 import com.moyeorak.auth_service.dto.TokenResponseDto;
 import com.moyeorak.auth_service.dto.UserLoginRequestDto;
 import com.moyeorak.auth_service.dto.UserLoginResponseDto;
-import com.moyeorak.auth_service.entity.User;
+import com.moyeorak.auth_service.repository.RefreshTokenRecord;
+import com.moyeorak.auth_service.repository.RefreshTokenStore;
+import com.moyeorak.auth_service.repository.UserCache;
+import com.moyeorak.auth_service.repository.UserCredentials;
+import com.moyeorak.auth_service.repository.UserSnapshot;
+import com.moyeorak.auth_service.exception.TooManyRequestsException;
+import com.moyeorak.auth_service.security.JwtClaims;
+import com.moyeorak.auth_service.security.LoginThrottle;
+import com.moyeorak.auth_service.security.TokenDigest;
+import com.moyeorak.auth_service.security.TokenRevocationFeed;
 import com.moyeorak.common.exception.BusinessException;
 import com.moyeorak.common.exception.ErrorCode;
 import com.moyeorak.auth_service.security.JwtProvider;
 import com.moyeorak.auth_service.repository.UserRepository;
-import jakarta.transaction.Transactional;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.UUID;
 
 @Slf4j
 @Service
@@ -20,63 +38,183 @@ import org.springframework.stereotype.Service;
 public class AuthServiceImpl implements AuthService {
 
     private final UserRepository userRepository;
+    private final UserCache userCache;
+    private final RefreshTokenStore refreshTokenStore;
     private final PasswordEncoder passwordEncoder;
     private final JwtProvider jwtProvider;
+    private final TokenRevocationFeed revocationFeed;
+    private final LoginThrottle loginThrottle;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
-    public UserLoginResponseDto login(UserLoginRequestDto dto) {
-        User user = userRepository.findByEmail(dto.getEmail())
-                .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND_USER));
+    // 교체된 Refresh Token 을 다시 써도 재사용으로 보지 않는 기간 (동시 요청 / 네트워크 재시도)
+    @Value("${auth.refresh-token.reuse-grace-seconds:10}")
+    private long reuseGraceSeconds;
 
-        if (!passwordEncoder.matches(dto.getPassword(), user.getPassword())) {
-            log.debug("로그인 실패 - 비밀번호 불일치: {}", dto.getEmail());
-            throw new BusinessException(ErrorCode.INVALID_PASSWORD);
-        }
+    private volatile String dummyPasswordHash;
+
+    // 비밀번호 해시(CPU, 해시 풀 대기 포함) 동안 DB 커넥션을 잡지 않도록 메서드 전체가 아닌 조회 / 갱신만 짧은 트랜잭션
+    @Override
+    public UserLoginResponseDto login(UserLoginRequestDto dto, String clientIp) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            // 가입 시와 같은 방식으로 한 번만 정규화
+            String email = dto.getEmail().trim().toLowerCase();
+
+            // DB 조회 / 비밀번호 해시 전에 시도 횟수 제한
+            try {
+                loginThrottle.check(email, clientIp);
+            } catch (TooManyRequestsException e) {
+                outcome = "throttled";
+                throw e;
+            }
 
-        String accessToken = jwtProvider.generateToken(user.getEmail(), user.getId(), user.getRole().name(), user.getRegionId());
-        String refreshToken = jwtProvider.generateRefreshToken(user.getEmail(), user.getId());
+            // 비밀번호 해시는 노드별 캐시 / replica 가 아닌 primary 에서 (다른 노드의 비밀번호 변경 / 탈퇴 즉시 반영)
+            UserCredentials user = transactionTemplate.execute(status ->
+                    userRepository.findCredentialsByEmail(email).orElse(null));
 
-        user.setRefreshToken(refreshToken);
-        userRepository.save(user);
+            // 해시 비교는 트랜잭션 밖에서.
+            // 없는 계정도 같은 비용의 해시 비교를 거쳐 응답 시간으로 가입 여부가 드러나지 않게 함
+            boolean matched = passwordEncoder.matches(dto.getPassword(),
+                    user != null ? user.getPassword() : dummyPasswordHash());
+            // 응답(에러 코드)으로도 구분되지 않게 없는 계정 / 비밀번호 불일치 모두 INVALID_PASSWORD
+            if (user == null) {
+                log.debug("로그인 실패 - 없는 계정: {}", email);
+                outcome = "not_found";
+                throw new BusinessException(ErrorCode.INVALID_PASSWORD);
+            }
+            if (!matched) {
+                log.debug("로그인 실패 - 비밀번호 불일치: {}", email);
+                outcome = "invalid_password";
+                throw new BusinessException(ErrorCode.INVALID_PASSWORD);
+            }
 
-        return new UserLoginResponseDto("로그인 완료", "Bearer " + accessToken, refreshToken);
+            // 이전 알고리즘 / 낮은 cost 해시면 현재 설정으로 재해시 (해시는 밖에서, 갱신만 짧은 트랜잭션)
+            if (passwordEncoder.upgradeEncoding(user.getPassword())) {
+                String upgraded = passwordEncoder.encode(dto.getPassword());
+                transactionTemplate.executeWithoutResult(status -> {
+                    if (userRepository.updatePassword(user.getId(), user.getPassword(), upgraded) > 0) {
+                        log.debug("비밀번호 해시 업그레이드 - userId: {}", user.getId());
+                        userCache.evict(user.getId());
+                    }
+                });
+            }
+
+            String accessToken = jwtProvider.generateToken(user.getEmail(), user.getId(), user.getRole().name(), user.getRegionId());
+            // 로그인마다 새 세션 (기기별 Refresh Token), 저장소가 자체 트랜잭션으로 저장
+            String refreshToken = issueRefreshToken(user.getEmail(), user.getId(), UUID.randomUUID().toString());
+
+            outcome = "success";
+            return new UserLoginResponseDto("로그인 완료", "Bearer " + accessToken, refreshToken);
+        } finally {
+            sample.stop(meterRegistry.timer("auth.login", "outcome", outcome));
+        }
     }
 
+    // 해당 사용자의 모든 세션 종료 + 이미 발급된 Access Token 폐기
+    @Transactional
     @Override
     public void logout(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND_USER));
-        user.setRefreshToken(null);
-        userRepository.save(user);
+        if (!userRepository.existsById(userId)) {
+            throw new BusinessException(ErrorCode.NOT_FOUND_USER);
+        }
+        int deleted = refreshTokenStore.deleteAllByUserId(userId);
+        revocationFeed.revokeUser(userId);
+        log.debug("로그아웃 - userId: {}, 삭제된 세션: {}", userId, deleted);
     }
 
+    // 재사용 탐지 시 세션 폐기 후 예외를 던지므로, 폐기가 롤백되지 않게 BusinessException 은 커밋
+    @Transactional(noRollbackFor = BusinessException.class)
     @Override
     public TokenResponseDto refreshAccessToken(String refreshToken) {
-        // Refresh Token 유효성 검증 후 이메일 추출
-        if (!jwtProvider.validateToken(refreshToken)) {
-            log.debug("Refresh Token 유효성 실패");
-            throw new BusinessException(ErrorCode.INVALID_REFRESH_TOKEN);
-        }
-        String email = jwtProvider.getEmail(refreshToken);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            // Refresh Token 유효성 검증 (서명 검증 1회)
+            JwtClaims claims;
+            try {
+                claims = jwtProvider.verify(refreshToken);
+            } catch (JwtException | IllegalArgumentException e) {
+                log.debug("Refresh Token 유효성 실패");
+                outcome = "invalid_token";
+                throw new BusinessException(ErrorCode.INVALID_REFRESH_TOKEN);
+            }
+
+            // 저장된 Refresh Token 조회 (digest 단건 조회, 교체 여부까지 한 번에 확인)
+            RefreshTokenRecord stored = refreshTokenStore.find(claims.getUserId(), TokenDigest.sha256Hex(refreshToken))
+                    .orElse(null);
+            if (stored == null) {
+                log.debug("저장된 Refresh Token 없음 - userId: {}", claims.getUserId());
+                outcome = "unknown_token";
+                throw new BusinessException(ErrorCode.INVALID_REFRESH_TOKEN);
+            }
+
+            // 사용자 조회 (탈퇴 여부를 바로 반영하도록 캐시 없이 DB)
+            UserSnapshot user = userRepository.findSnapshotById(stored.getUserId()).orElse(null);
+            if (user == null) {
+                outcome = "not_found";
+                throw new BusinessException(ErrorCode.NOT_FOUND_USER);
+            }
 
-        // 사용자 조회
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND_USER));
+            // 새 Access Token / Refresh Token 발급 (같은 세션 유지)
+            String newAccessToken = jwtProvider.generateToken(user.getEmail(), user.getId(), user.getRole().name(), user.getRegionId());
+            String newRefreshToken = jwtProvider.generateRefreshToken(user.getEmail(), user.getId(), stored.getSessionId());
+            RefreshTokenRecord next = toRecord(newRefreshToken, user.getId(), stored.getSessionId());
 
-        // DB에 저장된 Refresh Token과 일치 여부 확인
-        if (!refreshToken.equals(user.getRefreshToken())) {
-            log.debug("DB 저장된 Refresh Token 불일치 - email: {}", email);
-            throw new BusinessException(ErrorCode.INVALID_REFRESH_TOKEN);
+            Instant now = Instant.now();
+            String issued = "success";
+            if (stored.isRotated() || !refreshTokenStore.rotate(stored, next, now)) {
+                // 이미 교체된 토큰 - 동시 요청 / 재시도면 grace 기간 내 허용, 아니면 탈취로 보고 세션 전체 폐기
+                Instant rotatedAt = stored.isRotated() ? stored.getRotatedAt() : now;
+                if (rotatedAt.plusSeconds(reuseGraceSeconds).isBefore(now)) {
+                    int revoked = refreshTokenStore.deleteAllBySession(user.getId(), stored.getSessionId());
+                    log.warn("Refresh Token 재사용 탐지 - userId: {}, 세션 폐기 ({}건)", user.getId(), revoked);
+                    outcome = "reuse_detected";
+                    throw new BusinessException(ErrorCode.INVALID_REFRESH_TOKEN);
+                }
+                log.debug("Refresh Token 동시 재발급 (grace) - userId: {}", user.getId());
+                issued = "grace";
+                refreshTokenStore.save(next);
+            }
+
+            outcome = issued;
+            return new TokenResponseDto("Bearer " + newAccessToken, newRefreshToken);
+        } finally {
+            sample.stop(meterRegistry.timer("auth.refresh", "outcome", outcome));
         }
+    }
 
-        // 새 Access Token / Refresh Token 발급
-        String newAccessToken = jwtProvider.generateToken(email, user.getId(), user.getRole().name(), user.getRegionId());
-        String newRefreshToken = jwtProvider.generateRefreshToken(email, user.getId());
+    // 첫 실패 요청이 해시 생성 비용까지 떠안지 않게 기동 시 미리 생성
+    @PostConstruct
+    void initDummyPasswordHash() {
+        dummyPasswordHash();
+    }
 
-        // Refresh Token 갱신
-        user.setRefreshToken(newRefreshToken);
-        userRepository.save(user);
+    // 설정된 인코더(password.encoder.id / bcrypt-strength)로 만든 비교용 해시.
+    // 설정과 다른 cost 로 저장된 기존 해시는 비교 시간이 달라 구분될 수 있음 -
+    // 낮은 cost 는 로그인 성공 시 재해시(upgradeEncoding)되며 맞춰지고, 더 높은 cost 는 그대로 남음
+    private String dummyPasswordHash() {
+        String hash = dummyPasswordHash;
+        if (hash == null) {
+            hash = passwordEncoder.encode(UUID.randomUUID().toString());
+            dummyPasswordHash = hash;
+        }
+        return hash;
+    }
+
+    private String issueRefreshToken(String email, Long userId, String sessionId) {
+        String refreshToken = jwtProvider.generateRefreshToken(email, userId, sessionId);
+        refreshTokenStore.save(toRecord(refreshToken, userId, sessionId));
+        return refreshToken;
+    }
 
-        return new TokenResponseDto("Bearer " + newAccessToken, newRefreshToken);
+    private static RefreshTokenRecord toRecord(String refreshToken, Long userId, String sessionId) {
+        return RefreshTokenRecord.builder()
+                .tokenHash(TokenDigest.sha256Hex(refreshToken))
+                .userId(userId)
+                .sessionId(sessionId)
+                .expiresAt(Instant.now().plus(JwtProvider.REFRESH_TOKEN_VALIDITY))
+                .build();
     }
 }
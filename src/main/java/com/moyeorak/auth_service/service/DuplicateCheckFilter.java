@@ -0,0 +1,244 @@
+package com.moyeorak.auth_service.service;
+
+import com.moyeorak.auth_service.repository.UserIdentity;
+import com.moyeorak.auth_service.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/*
+ * 이메일 / 전화번호 중복 확인용 Bloom filter
+ * - "없음" 은 이 노드가 아는 범위에서만 확정. 중복 확인 API 응답은 힌트이고 가입 / 수정은 항상 DB 로 검증
+ * - 기동 시 WarmUpRunner 가 users 테이블을 id 순으로 페이지 조회해 적재, 이후 주기적으로 재생성
+ * - 다른 노드의 가입 / 수정은 updatedAt 기준으로 짧은 주기로 가져와 추가 (커밋 지연만큼 겹쳐 읽음)
+ * - 이 노드의 가입 / 수정은 바로 추가하고 커밋 후 한 번 더 (커밋 전에 끝난 재생성에 빠지지 않게)
+ * - 삭제는 반영할 수 없어 재생성 전까지 오탐(DB 확인)으로 남음
+ * - 적재 완료 전에는 항상 "있을 수 있음" (DB 확인)
+ */
+@Slf4j
+@Component
+public class DuplicateCheckFilter {
+
+    private static final int PAGE_SIZE = 1000;
+
+    private final UserRepository userRepository;
+    private final boolean enabled;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final long syncOverlapSeconds;
+    private final Counter negatives;
+    private final Counter positives;
+
+    // 조회는 잠금 없이 current 만 읽음. 추가와 필터 교체는 lock 으로 직렬화해
+    // 재생성 중에 들어온 값이 교체 직전 옛 필터에만 들어가고 사라지는 일이 없게 함
+    private final Object lock = new Object();
+    private volatile Filters current;
+    private Filters building;
+
+    // 마지막으로 반영한 변경 시각 (최초 적재 전이면 null)
+    private volatile LocalDateTime syncedUntil;
+
+    public DuplicateCheckFilter(UserRepository userRepository,
+                                @Value("${user.duplicate-filter.enabled:true}") boolean enabled,
+                                @Value("${user.duplicate-filter.expected-insertions:1000000}") long expectedInsertions,
+                                @Value("${user.duplicate-filter.false-positive-rate:0.01}") double falsePositiveRate,
+                                @Value("${user.duplicate-filter.sync-overlap-seconds:5}") long syncOverlapSeconds,
+                                MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.enabled = enabled;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.syncOverlapSeconds = syncOverlapSeconds;
+        this.negatives = meterRegistry.counter("users.duplicate-filter", "result", "negative");
+        this.positives = meterRegistry.counter("users.duplicate-filter", "result", "positive");
+    }
+
+    // false 면 이 노드가 아는 범위에서 사용 중이 아님
+    public boolean mightContainEmail(String normalizedEmail) {
+        Filters filters = current;
+        return filters == null || record(filters.emails.mightContain(normalizedEmail));
+    }
+
+    public boolean mightContainPhone(String normalizedPhone) {
+        Filters filters = current;
+        return filters == null || record(filters.phones.mightContain(normalizedPhone));
+    }
+
+    public void put(String normalizedEmail, String normalizedPhone) {
+        add(normalizedEmail, normalizedPhone);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    add(normalizedEmail, normalizedPhone);
+                }
+            });
+        }
+    }
+
+    // 기동 시 WarmUpRunner 에서 한 번, 이후 주기적으로 (삭제된 값 정리)
+    @Scheduled(initialDelayString = "${user.duplicate-filter.rebuild-interval-ms:3600000}",
+            fixedDelayString = "${user.duplicate-filter.rebuild-interval-ms:3600000}")
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        long start = System.nanoTime();
+        LocalDateTime startedAt = LocalDateTime.now();
+        Filters next = new Filters(expectedInsertions, falsePositiveRate);
+        synchronized (lock) {
+            building = next;
+        }
+        try {
+            long count = 0;
+            Long afterId = 0L;
+            List<UserIdentity> page;
+            do {
+                page = userRepository.findIdentitiesAfter(afterId, PageRequest.of(0, PAGE_SIZE));
+                for (UserIdentity user : page) {
+                    next.put(user.getEmail(), user.getPhone());
+                    afterId = user.getId();
+                }
+                count += page.size();
+            } while (page.size() == PAGE_SIZE);
+
+            synchronized (lock) {
+                current = next;
+                building = null;
+            }
+            if (syncedUntil == null) {
+                syncedUntil = startedAt;
+            }
+            log.info("중복 확인 필터 적재 완료 - {}명, {}ms", count, (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException e) {
+            // 실패 시 기존 필터 유지 (최초 적재 실패면 계속 DB 확인)
+            synchronized (lock) {
+                building = null;
+            }
+            log.warn("중복 확인 필터 적재 실패 - 기존 필터 유지", e);
+        }
+    }
+
+    // 다른 노드에서 가입 / 수정된 값 반영 (최초 적재 후부터)
+    // primary 에서 읽음 - replica 지연만큼 반영이 늦어지지 않게 (다른 노드 가입이 필터에 없는 구간 = 동기화 주기)
+    @Transactional
+    @Scheduled(fixedDelayString = "${user.duplicate-filter.sync-interval-ms:2000}")
+    public void syncRecentChanges() {
+        LocalDateTime since = syncedUntil;
+        if (!enabled || since == null) {
+            return;
+        }
+        LocalDateTime startedAt = LocalDateTime.now();
+        try {
+            List<UserIdentity> changed = userRepository.findIdentitiesModifiedSince(since.minusSeconds(syncOverlapSeconds));
+            for (UserIdentity user : changed) {
+                add(user.getEmail(), user.getPhone());
+            }
+            syncedUntil = startedAt;
+        } catch (RuntimeException e) {
+            log.warn("중복 확인 필터 변경분 반영 실패 - 다음 주기에 재시도", e);
+        }
+    }
+
+    private void add(String email, String phone) {
+        synchronized (lock) {
+            if (current != null) {
+                current.put(email, phone);
+            }
+            if (building != null) {
+                building.put(email, phone);
+            }
+        }
+    }
+
+    private boolean record(boolean mightContain) {
+        (mightContain ? positives : negatives).increment();
+        return mightContain;
+    }
+
+    private static class Filters {
+        private final BloomFilter emails;
+        private final BloomFilter phones;
+
+        Filters(long expectedInsertions, double falsePositiveRate) {
+            this.emails = new BloomFilter(expectedInsertions, falsePositiveRate);
+            this.phones = new BloomFilter(expectedInsertions, falsePositiveRate);
+        }
+
+        void put(String email, String phone) {
+            emails.put(email);
+            phones.put(phone);
+        }
+    }
+
+    // 동시 추가 / 조회 가능한 고정 크기 Bloom filter (double hashing)
+    private static class BloomFilter {
+        private final AtomicLongArray bits;
+        private final long bitSize;
+        private final int hashCount;
+
+        BloomFilter(long expectedInsertions, double falsePositiveRate) {
+            long n = Math.max(expectedInsertions, 1);
+            long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+            this.bits = new AtomicLongArray((int) Math.min((m + 63) / 64, Integer.MAX_VALUE - 8));
+            this.bitSize = (long) bits.length() * 64;
+            this.hashCount = Math.max(1, (int) Math.round((double) bitSize / n * Math.log(2)));
+        }
+
+        void put(String value) {
+            long hash1 = hash(value);
+            long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L);
+            for (int i = 0; i < hashCount; i++) {
+                long index = Long.remainderUnsigned(hash1 + i * hash2, bitSize);
+                long mask = 1L << index;
+                int word = (int) (index >>> 6);
+                if ((bits.get(word) & mask) == 0) {
+                    bits.getAndAccumulate(word, mask, (a, b) -> a | b);
+                }
+            }
+        }
+
+        boolean mightContain(String value) {
+            long hash1 = hash(value);
+            long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L);
+            for (int i = 0; i < hashCount; i++) {
+                long index = Long.remainderUnsigned(hash1 + i * hash2, bitSize);
+                if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // FNV-1a 64 + murmur3 finalizer
+        private static long hash(String value) {
+            long h = 0xcbf29ce484222325L;
+            for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+                h ^= b;
+                h *= 0x100000001b3L;
+            }
+            return mix(h);
+        }
+
+        private static long mix(long h) {
+            h ^= h >>> 33;
+            h *= 0xff51afd7ed558ccdL;
+            h ^= h >>> 33;
+            h *= 0xc4ceb93fe1a85b53L;
+            h ^= h >>> 33;
+            return h;
+        }
+    }
+}
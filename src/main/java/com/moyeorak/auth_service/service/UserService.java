@@ -1,8 +1,11 @@
 package com.moyeorak.auth_service.service;
 
 import com.moyeorak.auth_service.dto.*;
+import com.moyeorak.auth_service.dto.feign.UserBatchResponseDto;
 import com.moyeorak.auth_service.dto.feign.UserDto;
 
+import java.util.List;
+
 public interface UserService {
 
     // 회원가입
@@ -29,4 +32,7 @@ public interface UserService {
 
     // Feign 통신용 DTO 반환 (id 기반)
     UserDto getUserDtoById(Long id);
+
+    // Feign 통신용 DTO 일괄 조회 (요청 순서 유지, 없는 id 별도 반환)
+    UserBatchResponseDto getUserDtosByIds(List<Long> ids);
 }
\ No newline at end of file
@@ -1,17 +1,28 @@
 package com.moyeorak.auth_service.service;
 
 import com.moyeorak.auth_service.dto.*;
+import com.moyeorak.auth_service.dto.feign.UserBatchResponseDto;
 import com.moyeorak.auth_service.dto.feign.UserDto;
 import com.moyeorak.auth_service.entity.User;
 import com.moyeorak.common.exception.BusinessException;
 import com.moyeorak.common.exception.ErrorCode;
+import com.moyeorak.auth_service.repository.UserCache;
+import com.moyeorak.auth_service.repository.UserCredentials;
 import com.moyeorak.auth_service.repository.UserRepository;
-import jakarta.transaction.Transactional;
+import com.moyeorak.auth_service.repository.UserSnapshot;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Consumer;
 
 @Slf4j
@@ -20,10 +31,12 @@ import java.util.function.Consumer;
 public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
+    private final UserCache userCache;
+    private final DuplicateCheckFilter duplicateCheckFilter;
     private final PasswordEncoder passwordEncoder;
+    private final TransactionTemplate transactionTemplate;
 
-    // 회원가입
-    @Transactional
+    // 회원가입 - 비밀번호 해시는 트랜잭션 밖, 중복 검증 / 저장만 각각 짧은 트랜잭션
     public UserSignupResponseDto signup(UserSignupRequestDto dto) {
         // 입력값 전처리
         String email = dto.getEmail().trim().toLowerCase();
@@ -35,9 +48,11 @@ public class UserServiceImpl implements UserService {
             throw new BusinessException(ErrorCode.PASSWORD_MISMATCH);
         }
 
-        // 이메일 번호 중복 검증
-        validateDuplicateEmail(email);
-        validateDuplicatePhone(phone);
+        // 이메일 번호 중복 검증 (primary)
+        transactionTemplate.executeWithoutResult(status -> {
+            validateDuplicateEmail(email);
+            validateDuplicatePhone(phone);
+        });
 
         // 유저 엔티티 생성
         User user = User.builder()
@@ -51,7 +66,19 @@ public class UserServiceImpl implements UserService {
                 .regionId(dto.getRegionId())
                 .build();
 
-        User savedUser = userRepository.save(user);
+        User savedUser = transactionTemplate.execute(status -> {
+            User saved;
+            try {
+                saved = userRepository.saveAndFlush(user);
+            } catch (DataIntegrityViolationException e) {
+                // 동시 가입 / 해시 중 먼저 가입한 요청과 같은 값이면 unique 제약에서 걸림 - 500 대신 중복 응답
+                log.debug("회원가입 실패 - unique 제약 위반. email: {}", email);
+                throw new BusinessException(duplicateErrorCode(e, email));
+            }
+            duplicateCheckFilter.put(email, phone);
+            userCache.evict(saved.getId());
+            return saved;
+        });
 
         return UserSignupResponseDto.builder()
                 .email(savedUser.getEmail())
@@ -62,10 +89,10 @@ public class UserServiceImpl implements UserService {
     }
 
     // 내 정보 조회
+    @Transactional(readOnly = true)
     @Override
     public UserResponseDto getMyInfo(Long userId) {
-        User user = getUserById(userId);
-        return UserResponseDto.fromEntity(user);
+        return UserResponseDto.from(getCachedUser(userId));
     }
 
     // 정보 수정
@@ -94,15 +121,21 @@ public class UserServiceImpl implements UserService {
         }
 
         updateIfChanged(dto.getRegionId(), user.getRegionId(), user::setRegionId);
+        duplicateCheckFilter.put(user.getEmail(), user.getPhone());
+        userCache.evict(userId);
 
         return UserResponseDto.fromEntity(user);
     }
 
-    // 비번 변경
-    @Transactional
+    // 비번 변경 - 해시 비교 / 생성은 트랜잭션 밖, 조회 / 갱신만 짧은 트랜잭션 (해시 동안 DB 커넥션을 잡지 않음)
     @Override
     public void changePassword(Long userId, UserPasswordChangeRequestDto dto) {
-        User user = getUserById(userId);
+        // 새 비밀번호 & 확인 비밀번호 검증 (해시 없이 먼저)
+        if (!dto.getNewPassword().equals(dto.getConfirmNewPassword())) {
+            throw new BusinessException(ErrorCode.PASSWORD_MISMATCH);
+        }
+
+        UserCredentials user = getCredentials(userId);
 
         // 현재 비밀번호 검증
         if (!passwordEncoder.matches(dto.getCurrentPassword(), user.getPassword())) {
@@ -110,26 +143,25 @@ public class UserServiceImpl implements UserService {
             throw new BusinessException(ErrorCode.INVALID_PASSWORD);
         }
 
-        // 새 비밀번호 & 확인 비밀번호 검증
-        if (!dto.getNewPassword().equals(dto.getConfirmNewPassword())) {
-            throw new BusinessException(ErrorCode.PASSWORD_MISMATCH);
-        }
-
-        // 동일 비밀번호 재사용 방지
-        if (passwordEncoder.matches(dto.getNewPassword(), user.getPassword())) {
+        // 동일 비밀번호 재사용 방지 (현재 비밀번호가 맞았으므로 평문 비교로 충분 - 해시 1회 절약)
+        if (dto.getNewPassword().equals(dto.getCurrentPassword())) {
             throw new BusinessException(ErrorCode.SAME_PASSWORD);
         }
 
-        // 새 비밀번호 저장
-        user.setPassword(passwordEncoder.encode(dto.getNewPassword()));
+        // 새 비밀번호 저장 - 검증한 해시가 그대로일 때만 (그 사이 다른 변경이 있었으면 현재 비밀번호가 더는 맞지 않음)
+        String encoded = passwordEncoder.encode(dto.getNewPassword());
+        transactionTemplate.executeWithoutResult(status -> {
+            if (userRepository.updatePassword(userId, user.getPassword(), encoded) == 0) {
+                log.debug("비밀번호 변경 실패 - 동시 변경 / 탈퇴. userId: {}", userId);
+                throw new BusinessException(ErrorCode.INVALID_PASSWORD);
+            }
+            userCache.evict(userId);
+        });
     }
 
-    // 회원탈퇴
-    @Transactional
+    // 회원탈퇴 - 비밀번호 검증은 트랜잭션 밖, 삭제만 짧은 트랜잭션
     @Override
     public void deleteUser(Long userId, UserDeleteRequestDto dto) {
-        User user = getUserById(userId);
-
         // 비밀번호 & 확인 비밀번호 일치 여부 검증
         if (!dto.getPassword().equals(dto.getConfirmPassword())) {
             log.debug("회원탈퇴 실패 - 비밀번호 확인 불일치. userId: {}", userId);
@@ -137,12 +169,16 @@ public class UserServiceImpl implements UserService {
         }
 
         // 비밀번호 검증
+        UserCredentials user = getCredentials(userId);
         if (!passwordEncoder.matches(dto.getPassword(), user.getPassword())) {
             throw new BusinessException(ErrorCode.INVALID_PASSWORD);
         }
 
         // 탈퇴 처리
-        userRepository.delete(user);
+        transactionTemplate.executeWithoutResult(status -> {
+            userRepository.deleteById(userId);
+            userCache.evict(userId);
+        });
     }
 
 
@@ -161,12 +197,30 @@ public class UserServiceImpl implements UserService {
         }
     }
 
-    // 사용자 단건 조회 유틸
+    // 위반된 값으로 이메일 / 전화번호 구분 (MySQL: Duplicate entry '<값>' for key ...)
+    private static ErrorCode duplicateErrorCode(DataIntegrityViolationException e, String email) {
+        String message = String.valueOf(e.getMostSpecificCause().getMessage());
+        return message.contains("'" + email + "'") ? ErrorCode.EMAIL_DUPLICATED : ErrorCode.PHONE_DUPLICATED;
+    }
+
+    // 사용자 단건 조회 유틸 (수정용 엔티티)
     private User getUserById(Long userId) {
         return userRepository.findById(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND_USER));
     }
 
+    // 인증 정보 조회 유틸 - 노드별 캐시 / replica 가 아닌 primary 에서 현재 해시를 읽는 짧은 트랜잭션
+    private UserCredentials getCredentials(Long userId) {
+        return transactionTemplate.execute(status -> userRepository.findCredentialsById(userId))
+                .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND_USER));
+    }
+
+    // 사용자 단건 조회 유틸 (읽기 전용, 캐시)
+    private UserSnapshot getCachedUser(Long userId) {
+        return userCache.getById(userId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND_USER));
+    }
+
     // 값 변경 감지 유틸
     private <T> void updateIfChanged(T newValue, T currentValue, Consumer<T> updater) {
         if (newValue != null && !newValue.equals(currentValue)) {
@@ -174,30 +228,56 @@ public class UserServiceImpl implements UserService {
         }
     }
 
-    // 이메일 중복 확인
+    // 이메일 중복 확인 (필터에 없으면 DB 조회 생략)
+    // DB 확인은 primary - 다른 노드에서 방금 가입한 값이 replica 에 아직 없어도 중복으로 응답
+    @Transactional
     @Override
     public boolean isEmailDuplicate(String email) {
-        return userRepository.existsByEmail(email.trim().toLowerCase());
+        String normalized = email.trim().toLowerCase();
+        return duplicateCheckFilter.mightContainEmail(normalized) && userRepository.existsByEmail(normalized);
     }
 
-    // 휴대폰 번호 중복 확인
+    // 휴대폰 번호 중복 확인 (필터에 없으면 DB 조회 생략)
+    // DB 확인은 primary - 다른 노드에서 방금 가입한 값이 replica 에 아직 없어도 중복으로 응답
+    @Transactional
     @Override
     public boolean isPhoneDuplicate(String phone) {
-        return userRepository.existsByPhone(phone.trim());
+        String normalized = phone.trim();
+        return duplicateCheckFilter.mightContainPhone(normalized) && userRepository.existsByPhone(normalized);
     }
 
-    // 비밀번호 검증
+    // 비밀번호 검증 - 해시 비교는 트랜잭션 밖
     @Override
     public boolean verifyPassword(Long userId, String password) {
-        User user = getUserById(userId);
-        return passwordEncoder.matches(password, user.getPassword());
+        return passwordEncoder.matches(password, getCredentials(userId).getPassword());
     }
 
 
+    @Transactional(readOnly = true)
     public UserDto getUserDtoById(Long id) {
-        User user = userRepository.findById(id)
-                .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND_USER));
+        return toUserDto(getCachedUser(id));
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public UserBatchResponseDto getUserDtosByIds(List<Long> ids) {
+        Set<Long> distinct = new LinkedHashSet<>(ids);
+        Map<Long, UserSnapshot> found = userCache.getAllById(distinct);
+
+        List<UserDto> users = new ArrayList<>(found.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : distinct) {
+            UserSnapshot user = found.get(id);
+            if (user != null) {
+                users.add(toUserDto(user));
+            } else {
+                missingIds.add(id);
+            }
+        }
+        return new UserBatchResponseDto(users, missingIds);
+    }
 
+    private static UserDto toUserDto(UserSnapshot user) {
         return UserDto.builder()
                 .id(user.getId())
                 .email(user.getEmail())
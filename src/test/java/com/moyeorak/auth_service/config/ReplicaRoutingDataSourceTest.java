@@ -0,0 +1,159 @@
+package com.moyeorak.auth_service.config;
+
+import com.moyeorak.auth_service.repository.ReadYourWrites;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReplicaRoutingDataSourceTest {
+
+    private static final long MAX_LAG_SECONDS = 5;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final HikariDataSource replica1 = pool("replica-1");
+    private final HikariDataSource replica2 = pool("replica-2");
+    private ReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() {
+        routing = new ReplicaRoutingDataSource(pool("primary"), List.of(replica1, replica2), MAX_LAG_SECONDS,
+                meterRegistry);
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        }
+        TransactionSynchronizationManager.clear();
+    }
+
+    @Test
+    @DisplayName("읽기 전용이 아닌 트랜잭션은 항상 primary")
+    void routesReadWriteToPrimary() throws SQLException {
+        replicaStatus(replica1, 0L);
+        replicaStatus(replica2, 0L);
+        routing.checkReplicationLag();
+
+        assertEquals("primary", routing.determineCurrentLookupKey());
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 정상 replica 를 번갈아 사용")
+    void routesReadOnlyToReplicasRoundRobin() throws SQLException {
+        replicaStatus(replica1, 0L);
+        replicaStatus(replica2, 1L);
+        routing.checkReplicationLag();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        Set<Object> targets = new HashSet<>();
+        for (int i = 0; i < 4; i++) {
+            targets.add(routing.determineCurrentLookupKey());
+        }
+
+        assertEquals(Set.of("replica-1", "replica-2"), targets);
+        assertEquals(4.0, meterRegistry.counter("db.routing", "target", "replica").count());
+        assertTrue(ReadYourWrites.isReplicaTransaction());
+    }
+
+    @Test
+    @DisplayName("첫 지연 확인 전에는 replica 를 쓰지 않음")
+    void routesToPrimaryBeforeFirstCheck() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertEquals("primary", routing.determineCurrentLookupKey());
+        assertEquals(1.0, meterRegistry.counter("db.routing", "target", "fallback").count());
+    }
+
+    @Test
+    @DisplayName("지연 초과 / 복제 중단 / 확인 실패한 replica 는 제외하고 health 게이지 0")
+    void excludesUnhealthyReplicas() throws SQLException {
+        replicaStatus(replica1, MAX_LAG_SECONDS + 1);
+        when(replica2.getConnection()).thenThrow(new SQLException("Access denied; you need REPLICATION CLIENT"));
+        routing.checkReplicationLag();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertEquals("primary", routing.determineCurrentLookupKey());
+        assertEquals(0.0, healthy("replica-1"));
+        assertEquals(0.0, healthy("replica-2"));
+
+        replicaStatus(replica1, null);
+        routing.checkReplicationLag();
+        assertEquals(0.0, healthy("replica-1"));
+    }
+
+    @Test
+    @DisplayName("지연이 허용치 안으로 돌아오면 다시 사용")
+    void readmitsRecoveredReplica() throws SQLException {
+        replicaStatus(replica1, MAX_LAG_SECONDS + 1);
+        replicaStatus(replica2, MAX_LAG_SECONDS + 1);
+        routing.checkReplicationLag();
+
+        replicaStatus(replica1, MAX_LAG_SECONDS);
+        routing.checkReplicationLag();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertEquals("replica-1", routing.determineCurrentLookupKey());
+        assertEquals(1.0, healthy("replica-1"));
+    }
+
+    @Test
+    @DisplayName("방금 쓴 사용자를 읽는 트랜잭션은 읽기 전용이어도 primary (read-your-writes)")
+    void routesPinnedReadOnlyToPrimary() throws SQLException {
+        replicaStatus(replica1, 0L);
+        replicaStatus(replica2, 0L);
+        routing.checkReplicationLag();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        ReadYourWrites readYourWrites = new ReadYourWrites(10);
+
+        readYourWrites.pinPrimaryIfRecentlyWritten(7L);
+        assertFalse(ReadYourWrites.isPrimaryPinned());
+
+        readYourWrites.recordWrite(7L);
+        readYourWrites.pinPrimaryIfRecentlyWritten(List.of(1L, 7L));
+        assertEquals("primary", routing.determineCurrentLookupKey());
+    }
+
+    private double healthy(String replica) {
+        return meterRegistry.get("db.replica.healthy").tag("replica", replica).gauge().value();
+    }
+
+    private static HikariDataSource pool(String name) {
+        HikariDataSource dataSource = mock(HikariDataSource.class);
+        when(dataSource.getPoolName()).thenReturn(name);
+        return dataSource;
+    }
+
+    // SHOW REPLICA STATUS 결과 (lagSeconds null = Seconds_Behind_Source NULL, 복제 중단)
+    private static void replicaStatus(HikariDataSource dataSource, Long lagSeconds) throws SQLException {
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery("SHOW REPLICA STATUS")).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getLong("Seconds_Behind_Source")).thenReturn(lagSeconds != null ? lagSeconds : 0L);
+        when(resultSet.wasNull()).thenReturn(lagSeconds == null);
+    }
+}
@@ -0,0 +1,34 @@
+package com.moyeorak.auth_service.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InMemoryRefreshTokenStoreTest extends RefreshTokenStoreContractTest {
+
+    private InMemoryRefreshTokenStore store;
+
+    @Override
+    protected RefreshTokenStore store() {
+        store = new InMemoryRefreshTokenStore(4);
+        return store;
+    }
+
+    @Test
+    @DisplayName("주기 정리 시 만료된 토큰 삭제")
+    void sweepsExpiredTokens() {
+        store.save(RefreshTokenRecord.builder()
+                .tokenHash("expired")
+                .userId(1L)
+                .sessionId("session-1")
+                .expiresAt(Instant.now().minusSeconds(1))
+                .build());
+
+        store.deleteExpired();
+
+        assertTrue(store.find(1L, "expired").isEmpty());
+    }
+}
@@ -0,0 +1,162 @@
+package com.moyeorak.auth_service.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// RefreshTokenStore 구현 공통 동작 (구현별 하위 클래스에서 store() 제공)
+abstract class RefreshTokenStoreContractTest {
+
+    private static final long USER_ID = 42L;
+
+    private RefreshTokenStore store;
+
+    protected abstract RefreshTokenStore store();
+
+    @BeforeEach
+    void setUpStore() {
+        store = store();
+    }
+
+    @Test
+    @DisplayName("저장한 토큰은 조회되고, 다른 사용자 / 만료된 토큰은 조회되지 않음")
+    void findsSavedToken() {
+        RefreshTokenRecord record = record("session-1");
+        store.save(record);
+        store.save(record("session-1").toBuilder().expiresAt(Instant.now().minusSeconds(1)).tokenHash("expired").build());
+
+        RefreshTokenRecord found = store.find(USER_ID, record.getTokenHash()).orElseThrow();
+        assertEquals("session-1", found.getSessionId());
+        assertFalse(found.isRotated());
+        assertTrue(store.find(USER_ID + 1, record.getTokenHash()).isEmpty());
+        assertTrue(store.find(USER_ID, "expired").isEmpty());
+    }
+
+    @Test
+    @DisplayName("교체는 한 번만 성공하고 교체된 토큰은 rotatedAt 과 함께 계속 조회됨")
+    void rotatesOnce() {
+        RefreshTokenRecord previous = record("session-1");
+        store.save(previous);
+        Instant now = Instant.now();
+
+        assertTrue(store.rotate(previous, record("session-1"), now));
+        assertFalse(store.rotate(previous, record("session-1"), now));
+
+        RefreshTokenRecord rotated = store.find(USER_ID, previous.getTokenHash()).orElseThrow();
+        assertEquals(now.toEpochMilli(), rotated.getRotatedAt().toEpochMilli());
+    }
+
+    @Test
+    @DisplayName("없는 토큰은 교체되지 않고 새 토큰도 저장되지 않음")
+    void doesNotRotateMissingToken() {
+        RefreshTokenRecord next = record("session-1");
+
+        assertFalse(store.rotate(record("session-1"), next, Instant.now()));
+        assertTrue(store.find(USER_ID, next.getTokenHash()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("동시 교체 요청 중 하나만 성공 (compare-and-set)")
+    void concurrentRotateHasSingleWinner() throws Exception {
+        RefreshTokenRecord previous = record("session-1");
+        store.save(previous);
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return store.rotate(previous, record("session-1"), Instant.now());
+                }));
+            }
+            start.countDown();
+            int winners = 0;
+            for (Future<Boolean> result : results) {
+                winners += result.get() ? 1 : 0;
+            }
+            assertEquals(1, winners);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("grace 기간 재발급: 교체에 진 요청이 저장한 토큰도 같은 세션으로 조회 / 교체됨")
+    void savesGraceTokenInSameSession() {
+        RefreshTokenRecord previous = record("session-1");
+        store.save(previous);
+        RefreshTokenRecord winner = record("session-1");
+        RefreshTokenRecord grace = record("session-1");
+
+        assertTrue(store.rotate(previous, winner, Instant.now()));
+        assertFalse(store.rotate(previous, grace, Instant.now()));
+        store.save(grace);
+
+        assertTrue(store.find(USER_ID, winner.getTokenHash()).isPresent());
+        assertTrue(store.rotate(grace, record("session-1"), Instant.now()));
+        // 세션 폐기 시 grace 토큰도 함께 삭제
+        assertEquals(4, store.deleteAllBySession(USER_ID, "session-1"));
+    }
+
+    @Test
+    @DisplayName("세션 폐기는 해당 세션 토큰만 삭제")
+    void deletesSingleSession() {
+        RefreshTokenRecord first = record("session-1");
+        RefreshTokenRecord second = record("session-1");
+        RefreshTokenRecord other = record("session-2");
+        store.save(first);
+        store.rotate(first, second, Instant.now());
+        store.save(other);
+
+        assertEquals(2, store.deleteAllBySession(USER_ID, "session-1"));
+
+        assertTrue(store.find(USER_ID, first.getTokenHash()).isEmpty());
+        assertTrue(store.find(USER_ID, second.getTokenHash()).isEmpty());
+        assertTrue(store.find(USER_ID, other.getTokenHash()).isPresent());
+        assertEquals(0, store.deleteAllBySession(USER_ID, "session-1"));
+    }
+
+    @Test
+    @DisplayName("사용자 전체 삭제는 모든 세션을 지우고 다른 사용자는 유지")
+    void deletesAllSessionsOfUser() {
+        store.save(record("session-1"));
+        store.save(record("session-2"));
+        RefreshTokenRecord otherUser = record("session-1").toBuilder().userId(USER_ID + 1).build();
+        store.save(otherUser);
+
+        assertEquals(2, store.deleteAllByUserId(USER_ID));
+        assertEquals(0, store.deleteAllByUserId(USER_ID));
+
+        RefreshTokenRecord remaining = store.find(USER_ID + 1, otherUser.getTokenHash()).orElseThrow();
+        assertNull(remaining.getRotatedAt());
+        // 삭제된 세션에 이후 저장된 토큰은 다시 삭제 대상
+        store.save(record("session-1"));
+        assertEquals(1, store.deleteAllByUserId(USER_ID));
+    }
+
+    private static RefreshTokenRecord record(String sessionId) {
+        return RefreshTokenRecord.builder()
+                .tokenHash(UUID.randomUUID().toString())
+                .userId(USER_ID)
+                .sessionId(sessionId)
+                .expiresAt(Instant.now().plus(Duration.ofMinutes(10)))
+                .build();
+    }
+}
@@ -0,0 +1,119 @@
+package com.moyeorak.auth_service.repository;
+
+import com.moyeorak.auth_service.entity.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserCacheTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final UserCache userCache = new UserCache(userRepository, new ReadYourWrites(10), true, 100, 300,
+            new SimpleMeterRegistry());
+
+    @Test
+    @DisplayName("한 번 적재한 사용자는 evict 전까지 DB 를 다시 읽지 않음")
+    void cachesUntilEvicted() {
+        when(userRepository.findSnapshotById(1L)).thenReturn(Optional.of(user(1L)));
+
+        userCache.getById(1L);
+        userCache.getById(1L);
+        verify(userRepository, times(1)).findSnapshotById(1L);
+
+        userCache.evict(1L);
+        userCache.getById(1L);
+        verify(userRepository, times(2)).findSnapshotById(1L);
+    }
+
+    @Test
+    @DisplayName("일괄 조회는 캐시에 없는 id 만 DB 에서, 없는 사용자는 결과에서 빠짐")
+    void loadsOnlyMissingIds() {
+        when(userRepository.findSnapshotById(1L)).thenReturn(Optional.of(user(1L)));
+        when(userRepository.findSnapshotsByIdIn(any())).thenAnswer(invocation -> found(invocation.getArgument(0)));
+        userCache.getById(1L);
+
+        assertEquals(Set.of(1L, 2L), userCache.getAllById(List.of(1L, 2L, 9L)).keySet());
+        verify(userRepository).findSnapshotsByIdIn(List.of(2L, 9L));
+    }
+
+    @Test
+    @DisplayName("일괄 적재 중에 evict 가 끼어들면 적재한 (옛) 값을 캐시에 남기지 않음")
+    void discardsBulkLoadRacingWithEvict() {
+        when(userRepository.findSnapshotsByIdIn(any())).thenAnswer(invocation -> {
+            List<UserSnapshot> stale = found(invocation.getArgument(0));
+            userCache.evict(2L); // 다른 요청의 커밋 후 무효화
+            return stale;
+        });
+        when(userRepository.findSnapshotById(2L)).thenReturn(Optional.of(user(2L)));
+
+        userCache.getAllById(List.of(2L));
+        userCache.getById(2L);
+
+        verify(userRepository).findSnapshotById(2L);
+    }
+
+    @Test
+    @DisplayName("워밍업 적재 중에 evict 가 있었으면 그 페이지는 캐시하지 않음")
+    void discardsPreloadRacingWithEvict() {
+        when(userRepository.findSnapshotById(3L)).thenReturn(Optional.of(user(3L)));
+
+        userCache.preload(() -> {
+            userCache.evict(3L);
+            return List.of(user(3L));
+        });
+        userCache.getById(3L);
+
+        verify(userRepository).findSnapshotById(3L);
+    }
+
+    @Test
+    @DisplayName("replica 에서 읽은 행은 read-your-writes 창 동안만 캐시 (다른 노드의 쓰기가 빠졌을 수 있음)")
+    void expiresReplicaReadsAfterWindow() {
+        UserCache cache = new UserCache(userRepository, new ReadYourWrites(0), true, 100, 300,
+                new SimpleMeterRegistry());
+        when(userRepository.findSnapshotById(4L)).thenAnswer(invocation -> {
+            ReadYourWrites.recordReplicaRead(); // 라우팅이 replica 를 고름
+            return Optional.of(user(4L));
+        });
+        when(userRepository.findSnapshotById(5L)).thenReturn(Optional.of(user(5L)));
+
+        cache.getById(4L);
+        cache.getById(4L);
+        cache.getById(5L);
+        cache.getById(5L);
+
+        verify(userRepository, times(2)).findSnapshotById(4L);
+        verify(userRepository, times(1)).findSnapshotById(5L);
+    }
+
+    private static List<UserSnapshot> found(Collection<Long> ids) {
+        List<UserSnapshot> users = new ArrayList<>();
+        for (Long id : ids) {
+            if (id < 9L) {
+                users.add(user(id));
+            }
+        }
+        return users;
+    }
+
+    private static UserSnapshot user(Long id) {
+        return UserSnapshot.builder()
+                .id(id)
+                .email("user" + id + "@moyeorak.cloud")
+                .role(User.Role.USER)
+                .build();
+    }
+}
@@ -0,0 +1,69 @@
+package com.moyeorak.auth_service.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ClientIpResolverTest {
+
+    @Test
+    @DisplayName("기본(hops 0)은 X-Forwarded-For 를 무시하고 remoteAddr 사용")
+    void ignoresForwardedHeaderByDefault() {
+        ClientIpResolver resolver = new ClientIpResolver(0, List.of());
+
+        assertEquals("203.0.113.9", resolver.resolve(request("203.0.113.9", "1.2.3.4")));
+    }
+
+    @Test
+    @DisplayName("프록시 n단이면 오른쪽에서 n번째 항목 (클라이언트가 넣은 앞쪽 값은 무시)")
+    void usesEntryAddedByTrustedHop() {
+        ClientIpResolver resolver = new ClientIpResolver(1, List.of());
+
+        assertEquals("198.51.100.7", resolver.resolve(request("10.0.1.5", "1.2.3.4, 198.51.100.7")));
+        assertEquals("10.0.1.5", resolver.resolve(request("10.0.1.5", null)));
+    }
+
+    @Test
+    @DisplayName("trusted-proxies 가 있으면 그 대역에서 직접 연결한 요청만 헤더 사용")
+    void trustsHeaderOnlyFromConfiguredProxies() {
+        ClientIpResolver resolver = new ClientIpResolver(1, List.of("10.0.0.0/16", "2001:db8::/32"));
+
+        assertEquals("198.51.100.7", resolver.resolve(request("10.0.1.5", "198.51.100.7")));
+        assertEquals("198.51.100.7", resolver.resolve(request("2001:db8::1", "198.51.100.7")));
+        // 태스크 포트로 직접 들어온 요청은 헤더를 바꿔도 같은 IP
+        assertEquals("203.0.113.9", resolver.resolve(request("203.0.113.9", "1.2.3.4")));
+        assertEquals("203.0.113.9", resolver.resolve(request("203.0.113.9", "5.6.7.8")));
+    }
+
+    @Test
+    @DisplayName("바이트 경계가 아닌 접두사 / 단일 주소도 처리")
+    void matchesPartialPrefixes() {
+        ClientIpResolver resolver = new ClientIpResolver(1, List.of("10.0.16.0/20", "192.0.2.1"));
+
+        assertEquals("198.51.100.7", resolver.resolve(request("10.0.31.255", "198.51.100.7")));
+        assertEquals("10.0.32.1", resolver.resolve(request("10.0.32.1", "198.51.100.7")));
+        assertEquals("198.51.100.7", resolver.resolve(request("192.0.2.1", "198.51.100.7")));
+        assertEquals("192.0.2.2", resolver.resolve(request("192.0.2.2", "198.51.100.7")));
+    }
+
+    @Test
+    @DisplayName("잘못된 CIDR 설정은 기동 시 실패")
+    void rejectsInvalidCidr() {
+        assertThrows(IllegalArgumentException.class, () -> new ClientIpResolver(1, List.of("10.0.0.0/33")));
+        assertThrows(IllegalArgumentException.class, () -> new ClientIpResolver(1, List.of("proxy.local")));
+    }
+
+    private static MockHttpServletRequest request(String remoteAddr, String forwardedFor) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr(remoteAddr);
+        if (forwardedFor != null) {
+            request.addHeader("X-Forwarded-For", forwardedFor);
+        }
+        return request;
+    }
+}
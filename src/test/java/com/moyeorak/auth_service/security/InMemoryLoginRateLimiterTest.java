@@ -0,0 +1,81 @@
+package com.moyeorak.auth_service.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InMemoryLoginRateLimiterTest {
+
+    private final InMemoryLoginRateLimiter rateLimiter = new InMemoryLoginRateLimiter(1_000, new SimpleMeterRegistry());
+
+    @Test
+    @DisplayName("capacity 만큼 연속 허용 후 거절, 다음 토큰까지 남은 시간 반환")
+    void rejectsAfterCapacity() {
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, rateLimiter.tryAcquire("email:a", 3, 60_000));
+        }
+
+        long wait = rateLimiter.tryAcquire("email:a", 3, 60_000);
+        assertTrue(wait > 0 && wait <= 60_001, "wait: " + wait);
+    }
+
+    @Test
+    @DisplayName("refill 간격이 지나면 토큰이 다시 채워짐")
+    void refillsOverTime() throws InterruptedException {
+        assertEquals(0, rateLimiter.tryAcquire("email:a", 1, 50));
+        assertTrue(rateLimiter.tryAcquire("email:a", 1, 50) > 0);
+
+        Thread.sleep(80);
+
+        assertEquals(0, rateLimiter.tryAcquire("email:a", 1, 50));
+    }
+
+    @Test
+    @DisplayName("키마다 버킷이 따로")
+    void bucketsArePerKey() {
+        assertEquals(0, rateLimiter.tryAcquire("email:a", 1, 60_000));
+        assertTrue(rateLimiter.tryAcquire("email:a", 1, 60_000) > 0);
+
+        assertEquals(0, rateLimiter.tryAcquire("email:b", 1, 60_000));
+    }
+
+    @Test
+    @DisplayName("동시에 시도해도 capacity 를 넘겨 허용하지 않음 (CAS)")
+    void neverExceedsCapacityUnderContention() throws Exception {
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                int allowed = 0;
+                for (int i = 0; i < 1_000; i++) {
+                    if (rateLimiter.tryAcquire("ip:10.0.0.1", 100, 3_600_000) == 0) {
+                        allowed++;
+                    }
+                }
+                return allowed;
+            }));
+        }
+        start.countDown();
+
+        int allowed = 0;
+        for (Future<Integer> result : results) {
+            allowed += result.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+        assertEquals(100, allowed);
+    }
+}
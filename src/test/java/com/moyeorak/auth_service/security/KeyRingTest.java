@@ -0,0 +1,80 @@
+package com.moyeorak.auth_service.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class KeyRingTest {
+
+    @TempDir
+    Path keyDir;
+
+    private KeyRing keyRing;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        keyRing.stop();
+    }
+
+    @Test
+    @DisplayName("kid 없는 토큰은 교체 후에도 설정된 jwt.active-kid 키로 검증")
+    void resolvesMissingKidToConfiguredLegacyKid() throws Exception {
+        KeyPair legacy = writeKey("legacy-key");
+        KeyPair next = writeKey("next-key");
+        Files.writeString(keyDir.resolve("active-kid"), "next-key");
+
+        keyRing = keyRing("legacy-key");
+
+        assertEquals("next-key", keyRing.getActive().getKid());
+        assertEquals(legacy.getPublic(), keyRing.getPublicKey(null));
+        assertEquals(next.getPublic(), keyRing.getPublicKey("next-key"));
+    }
+
+    @Test
+    @DisplayName("설정된 legacy kid 키가 제거되면 kid 없는 토큰은 검증 키 없음")
+    void missingLegacyKeyResolvesToNull() throws Exception {
+        writeKey("next-key");
+
+        keyRing = keyRing("next-key");
+        Files.delete(keyDir.resolve("next-key.public.pem"));
+        writeKey("other-key");
+        Files.writeString(keyDir.resolve("active-kid"), "other-key");
+        keyRing.reload();
+
+        assertNull(keyRing.getPublicKey(null));
+    }
+
+    private KeyRing keyRing(String configuredKid) throws Exception {
+        KeyRing ring = new KeyRing(new VerifiedTokenCache(true, 100, new SimpleMeterRegistry()),
+                new WellKnownDocuments(new ObjectMapper(), 300), keyDir.toString(), configuredKid, "", "");
+        ring.init();
+        return ring;
+    }
+
+    private KeyPair writeKey(String kid) throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        KeyPair keyPair = generator.generateKeyPair();
+        Files.writeString(keyDir.resolve(kid + ".private.pem"), pem("PRIVATE KEY", keyPair.getPrivate().getEncoded()));
+        Files.writeString(keyDir.resolve(kid + ".public.pem"), pem("PUBLIC KEY", keyPair.getPublic().getEncoded()));
+        return keyPair;
+    }
+
+    private static String pem(String type, byte[] der) {
+        return "-----BEGIN " + type + "-----\n"
+                + Base64.getMimeEncoder(64, "\n".getBytes()).encodeToString(der)
+                + "\n-----END " + type + "-----\n";
+    }
+}
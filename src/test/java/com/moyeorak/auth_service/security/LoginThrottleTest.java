@@ -0,0 +1,86 @@
+package com.moyeorak.auth_service.security;
+
+import com.moyeorak.auth_service.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LoginThrottleTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RecordingRateLimiter rateLimiter = new RecordingRateLimiter();
+
+    @Test
+    @DisplayName("IP 버킷 → 계정 버킷 순으로 소비, 각 설정값 전달")
+    void checksIpThenEmail() {
+        throttle(true).check("member@moyeorak.cloud", "10.0.0.1");
+
+        assertEquals(List.of("ip:10.0.0.1/50/1000", "email:member@moyeorak.cloud/10/30000"), rateLimiter.calls);
+    }
+
+    @Test
+    @DisplayName("IP 에서 거절되면 계정 버킷은 소비하지 않고 429 + Retry-After(초, 올림)")
+    void rejectsByIpWithoutConsumingEmailBucket() {
+        rateLimiter.waits.put("ip:10.0.0.1", 1_500L);
+
+        TooManyRequestsException e = assertThrows(TooManyRequestsException.class,
+                () -> throttle(true).check("member@moyeorak.cloud", "10.0.0.1"));
+
+        assertEquals(2, e.getRetryAfterSeconds());
+        assertEquals(List.of("ip:10.0.0.1/50/1000"), rateLimiter.calls);
+        assertEquals(1.0, meterRegistry.counter("auth.login.throttled", "limit", "ip").count());
+    }
+
+    @Test
+    @DisplayName("계정 버킷 거절, Retry-After 는 최소 1초")
+    void rejectsByEmail() {
+        rateLimiter.waits.put("email:member@moyeorak.cloud", 10L);
+
+        TooManyRequestsException e = assertThrows(TooManyRequestsException.class,
+                () -> throttle(true).check("member@moyeorak.cloud", "10.0.0.1"));
+
+        assertEquals(1, e.getRetryAfterSeconds());
+        assertEquals(1.0, meterRegistry.counter("auth.login.throttled", "limit", "email").count());
+    }
+
+    @Test
+    @DisplayName("IP 를 모르면 계정 기준만 적용")
+    void skipsIpBucketWithoutClientIp() {
+        throttle(true).check("member@moyeorak.cloud", null);
+
+        assertEquals(List.of("email:member@moyeorak.cloud/10/30000"), rateLimiter.calls);
+    }
+
+    @Test
+    @DisplayName("비활성화하면 버킷을 쓰지 않음")
+    void disabled() {
+        rateLimiter.waits.put("ip:10.0.0.1", 1_000L);
+
+        assertDoesNotThrow(() -> throttle(false).check("member@moyeorak.cloud", "10.0.0.1"));
+        assertEquals(List.of(), rateLimiter.calls);
+    }
+
+    private LoginThrottle throttle(boolean enabled) {
+        return new LoginThrottle(rateLimiter, enabled, 10, 30_000, 50, 1_000, meterRegistry);
+    }
+
+    private static class RecordingRateLimiter implements LoginRateLimiter {
+        final List<String> calls = new ArrayList<>();
+        final Map<String, Long> waits = new HashMap<>();
+
+        @Override
+        public long tryAcquire(String key, long capacity, long refillMillis) {
+            calls.add(key + "/" + capacity + "/" + refillMillis);
+            return waits.getOrDefault(key, 0L);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.moyeorak.auth_service.security;
+
+import com.moyeorak.auth_service.entity.TokenRevocation;
+import com.moyeorak.auth_service.repository.TokenRevocationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.longThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TokenRevocationFeedTest {
+
+    private static final long OVERLAP_SECONDS = 5;
+
+    private final TokenRevocationRepository repository = mock(TokenRevocationRepository.class);
+    private final TokenRevocationList revocationList = new TokenRevocationList();
+    private final TokenRevocationFeed feed = new TokenRevocationFeed(repository, revocationList, OVERLAP_SECONDS);
+    private final long now = Instant.now().getEpochSecond();
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("로그아웃은 DB 에 기록하고 (트랜잭션 밖이면) 로컬 목록에도 바로 반영, 같은 초에 먼저 발급된 토큰도 폐기")
+    void revokeWritesThroughToDatabase() {
+        feed.revokeUser(7L);
+
+        verify(repository).upsert(eq(7L), longThat(notBefore -> notBefore > now));
+        assertTrue(revocationList.isRevoked(7L, now));
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 로그아웃은 커밋 후에만 로컬 목록에 반영")
+    void revokeAppliesLocallyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        feed.revokeUser(7L);
+        assertFalse(revocationList.isRevoked(7L, now - 1));
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertTrue(revocationList.isRevoked(7L, now - 1));
+    }
+
+    @Test
+    @DisplayName("롤백된 로그아웃은 로컬 목록에 남지 않음")
+    void rolledBackRevokeIsNotApplied() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        feed.revokeUser(7L);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertFalse(revocationList.isRevoked(7L, now - 1));
+    }
+
+    @Test
+    @DisplayName("첫 동기화는 전체, 이후는 직전 동기화 시점에서 overlap 만큼 앞부터")
+    void syncReadsFromLastSyncMinusOverlap() {
+        when(repository.findAllSince(0)).thenReturn(List.of(new TokenRevocation(1L, now)));
+        when(repository.findAllSince(longThat(since -> since > 0)))
+                .thenReturn(List.of(new TokenRevocation(1L, now), new TokenRevocation(2L, now)));
+
+        feed.sync();
+        assertTrue(revocationList.isRevoked(1L, now - 1));
+        assertFalse(revocationList.isRevoked(2L, now - 1));
+
+        feed.sync();
+        verify(repository).findAllSince(longThat(since -> since >= now - OVERLAP_SECONDS && since <= now));
+        assertTrue(revocationList.isRevoked(2L, now - 1));
+    }
+
+    @Test
+    @DisplayName("게이트웨이 커서도 overlap 만큼 겹쳐 조회 (커밋 지연 / 시계 차이)")
+    void changesSinceOverlapsCursor() {
+        feed.changesSince(now);
+        feed.changesSince(0);
+
+        verify(repository).findAllSince(now - OVERLAP_SECONDS);
+        verify(repository).findAllSince(0);
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 행 정리")
+    void purgesRowsOlderThanRetention() {
+        feed.purgeExpired();
+
+        verify(repository).deleteAllBefore(longThat(threshold ->
+                threshold <= now - TokenRevocationList.RETENTION_SECONDS + 1
+                        && threshold >= now - TokenRevocationList.RETENTION_SECONDS));
+    }
+}
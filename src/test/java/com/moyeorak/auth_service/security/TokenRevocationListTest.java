@@ -0,0 +1,75 @@
+package com.moyeorak.auth_service.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenRevocationListTest {
+
+    private final TokenRevocationList revocationList = new TokenRevocationList();
+    private final long now = Instant.now().getEpochSecond();
+
+    @Test
+    @DisplayName("not-before 이전에 발급된 토큰만 폐기")
+    void revokesTokensIssuedBeforeNotBefore() {
+        revocationList.revoke(7L, now);
+
+        assertTrue(revocationList.isRevoked(7L, now - 1));
+        assertFalse(revocationList.isRevoked(7L, now));
+        assertFalse(revocationList.isRevoked(8L, now - 1));
+    }
+
+    @Test
+    @DisplayName("로그아웃과 같은 초에 먼저 발급된 토큰도 폐기 (not-before 올림)")
+    void revokesTokenIssuedEarlierInSameSecond() {
+        long issuedAt = Instant.now().getEpochSecond();
+
+        revocationList.revokeUser(7L);
+
+        assertTrue(revocationList.isRevoked(7L, issuedAt));
+        assertFalse(revocationList.isRevoked(7L, TokenRevocationList.notBeforeNow() + 1));
+    }
+
+    @Test
+    @DisplayName("같은 사용자는 더 늦은 not-before 만 유지 (중복 / 순서 뒤바뀐 이벤트)")
+    void keepsLatestNotBefore() {
+        revocationList.revoke(7L, now);
+        revocationList.revoke(7L, now - 10);
+        revocationList.revoke(7L, now);
+
+        assertTrue(revocationList.isRevoked(7L, now - 5));
+        assertEquals(1, revocationList.size());
+    }
+
+    @Test
+    @DisplayName("많은 사용자를 넣어도 모두 조회됨 (테이블 확장)")
+    void growsTable() {
+        for (long userId = 1; userId <= 1_000; userId++) {
+            revocationList.revoke(userId, now);
+        }
+
+        assertEquals(1_000, revocationList.size());
+        for (long userId = 1; userId <= 1_000; userId++) {
+            assertTrue(revocationList.isRevoked(userId, now - 1));
+        }
+        assertFalse(revocationList.isRevoked(1_001L, now - 1));
+    }
+
+    @Test
+    @DisplayName("Access Token 유효기간이 지난 항목은 넣지 않고 정리 시 제거")
+    void dropsEntriesOlderThanRetention() {
+        long expired = now - TokenRevocationList.RETENTION_SECONDS - 1;
+        revocationList.revoke(1L, expired);
+        revocationList.revoke(2L, now);
+        revocationList.purgeExpired();
+
+        assertFalse(revocationList.isRevoked(1L, expired - 1));
+        assertTrue(revocationList.isRevoked(2L, now - 1));
+        assertEquals(1, revocationList.size());
+    }
+}
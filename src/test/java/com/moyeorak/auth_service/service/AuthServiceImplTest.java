@@ -0,0 +1,286 @@
+package com.moyeorak.auth_service.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moyeorak.auth_service.dto.TokenResponseDto;
+import com.moyeorak.auth_service.dto.UserLoginRequestDto;
+import com.moyeorak.auth_service.dto.UserLoginResponseDto;
+import com.moyeorak.auth_service.entity.User;
+import com.moyeorak.auth_service.repository.InMemoryRefreshTokenStore;
+import com.moyeorak.auth_service.repository.RefreshTokenRecord;
+import com.moyeorak.auth_service.repository.RefreshTokenStore;
+import com.moyeorak.auth_service.repository.TokenRevocationRepository;
+import com.moyeorak.auth_service.repository.UserCache;
+import com.moyeorak.auth_service.repository.UserCredentials;
+import com.moyeorak.auth_service.repository.UserRepository;
+import com.moyeorak.auth_service.repository.UserSnapshot;
+import com.moyeorak.auth_service.security.JwtProvider;
+import com.moyeorak.auth_service.security.KeyRing;
+import com.moyeorak.auth_service.security.LoginThrottle;
+import com.moyeorak.auth_service.security.TokenDigest;
+import com.moyeorak.auth_service.security.TokenRevocationFeed;
+import com.moyeorak.auth_service.security.TokenRevocationList;
+import com.moyeorak.auth_service.security.VerifiedTokenCache;
+import com.moyeorak.auth_service.security.WellKnownDocuments;
+import com.moyeorak.common.exception.BusinessException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionManager;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// Refresh Token 교체 / grace 기간 / 재사용 탐지 시 세션 폐기, 로그인 시 해시는 트랜잭션 밖
+class AuthServiceImplTest {
+
+    private static final long GRACE_SECONDS = 10;
+
+    @TempDir
+    Path keyDir;
+
+    private KeyRing keyRing;
+    private JwtProvider jwtProvider;
+    private RefreshTokenStore store;
+    private AuthService authService;
+    private UserSnapshot user;
+    private UserRepository userRepository;
+    private OutsideTransactionPasswordEncoder passwordEncoder;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        writeKey(keyDir, "test-key");
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(true, 100, meterRegistry);
+        keyRing = new KeyRing(verifiedTokenCache, new WellKnownDocuments(new ObjectMapper(), 300),
+                keyDir.toString(), "test-key", "", "");
+        keyRing.init();
+        TokenRevocationList revocationList = new TokenRevocationList();
+        jwtProvider = new JwtProvider(keyRing, verifiedTokenCache, revocationList, meterRegistry);
+
+        user = UserSnapshot.builder()
+                .id(1L)
+                .email("member@moyeorak.cloud")
+                .name("member")
+                .gender(User.Gender.FEMALE)
+                .phone("010-0000-0000")
+                .role(User.Role.USER)
+                .birth(LocalDate.of(1990, 1, 1))
+                .regionId(11L)
+                .build();
+        userRepository = mock(UserRepository.class);
+        when(userRepository.findSnapshotById(anyLong())).thenReturn(Optional.of(user));
+        UserCache userCache = mock(UserCache.class);
+
+        // JPA 저장소처럼 삭제는 커밋될 때만 반영
+        store = new CommitOnlyDeletes(new InMemoryRefreshTokenStore(4));
+        NoOpTransactionManager transactionManager = new NoOpTransactionManager();
+        passwordEncoder = new OutsideTransactionPasswordEncoder(new BCryptPasswordEncoder(5));
+        AuthServiceImpl target = new AuthServiceImpl(userRepository, userCache, store, passwordEncoder,
+                jwtProvider, new TokenRevocationFeed(mock(TokenRevocationRepository.class), revocationList, 5),
+                new LoginThrottle((key, capacity, refillMillis) -> 0, false, 0, 0, 0, 0, meterRegistry),
+                meterRegistry, new TransactionTemplate(transactionManager));
+        ReflectionTestUtils.setField(target, "reuseGraceSeconds", GRACE_SECONDS);
+        target.initDummyPasswordHash();
+        passwordEncoder.hashes.set(0);
+
+        ProxyFactory proxyFactory = new ProxyFactory(target);
+        proxyFactory.addAdvice(new TransactionInterceptor((TransactionManager) transactionManager,
+                new AnnotationTransactionAttributeSource()));
+        authService = (AuthService) proxyFactory.getProxy();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        keyRing.stop();
+    }
+
+    @Test
+    @DisplayName("교체된 토큰은 다시 쓸 수 없고 새 토큰은 계속 교체됨")
+    void rotatesRefreshToken() {
+        String first = issue("session-1");
+
+        TokenResponseDto second = authService.refreshAccessToken(first);
+        TokenResponseDto third = authService.refreshAccessToken(second.getRefreshToken());
+
+        assertNotNull(third.getAccessToken());
+        assertNotNull(third.getRefreshToken());
+    }
+
+    @Test
+    @DisplayName("grace 기간 안의 재사용(동시 요청)은 허용하고 세션을 유지")
+    void allowsReuseWithinGraceWindow() {
+        String first = issue("session-1");
+        TokenResponseDto second = authService.refreshAccessToken(first);
+
+        TokenResponseDto retried = authService.refreshAccessToken(first);
+
+        assertNotNull(authService.refreshAccessToken(second.getRefreshToken()));
+        assertNotNull(authService.refreshAccessToken(retried.getRefreshToken()));
+    }
+
+    @Test
+    @DisplayName("grace 기간이 지난 재사용은 세션 전체를 폐기 (폐기는 예외 후에도 커밋)")
+    void revokesFamilyOnReuseAfterGraceWindow() {
+        String first = issue("session-1");
+        String other = issue("session-2");
+        TokenResponseDto second = authService.refreshAccessToken(first);
+        rotatedLongAgo(first);
+
+        assertThrows(BusinessException.class, () -> authService.refreshAccessToken(first));
+
+        // 같은 세션의 후속 토큰은 폐기, 다른 세션은 유지
+        assertThrows(BusinessException.class, () -> authService.refreshAccessToken(second.getRefreshToken()));
+        assertNotNull(authService.refreshAccessToken(other));
+    }
+
+    @Test
+    @DisplayName("저장되지 않은 토큰은 거절")
+    void rejectsUnknownToken() {
+        String unknown = jwtProvider.generateRefreshToken(user.getEmail(), user.getId(), "session-1");
+
+        assertThrows(BusinessException.class, () -> authService.refreshAccessToken(unknown));
+    }
+
+    @Test
+    @DisplayName("로그인: 비밀번호 해시 / 재해시는 트랜잭션 밖, 갱신은 읽은 해시 그대로일 때만")
+    void hashesOutsideTransactionOnLogin() {
+        // 설정(cost 5)보다 낮은 cost 로 저장된 해시 - 로그인 성공 시 재해시
+        String legacyHash = new BCryptPasswordEncoder(4).encode("correct-password");
+        when(userRepository.findCredentialsByEmail(user.getEmail())).thenReturn(Optional.of(credentials(legacyHash)));
+        when(userRepository.updatePassword(eq(user.getId()), eq(legacyHash), anyString())).thenReturn(1);
+
+        UserLoginResponseDto response = authService.login(
+                new UserLoginRequestDto(" Member@moyeorak.cloud ", "correct-password"), "10.0.0.1");
+
+        assertNotNull(response.getAccessToken());
+        assertEquals(2, passwordEncoder.hashes.get());
+        verify(userRepository).updatePassword(eq(user.getId()), eq(legacyHash), anyString());
+    }
+
+    @Test
+    @DisplayName("로그인 실패(없는 계정 / 비밀번호 불일치)도 해시 비교는 트랜잭션 밖에서 한 번")
+    void rejectsWrongPasswordAndUnknownAccount() {
+        String hash = new BCryptPasswordEncoder(5).encode("correct-password");
+        when(userRepository.findCredentialsByEmail(user.getEmail())).thenReturn(Optional.of(credentials(hash)));
+
+        assertThrows(BusinessException.class, () -> authService.login(
+                new UserLoginRequestDto(user.getEmail(), "wrong-password"), "10.0.0.1"));
+        assertThrows(BusinessException.class, () -> authService.login(
+                new UserLoginRequestDto("nobody@moyeorak.cloud", "wrong-password"), "10.0.0.1"));
+
+        assertEquals(2, passwordEncoder.hashes.get());
+        verify(userRepository, never()).updatePassword(anyLong(), anyString(), anyString());
+    }
+
+    private UserCredentials credentials(String hash) {
+        return UserCredentials.builder()
+                .id(user.getId())
+                .email(user.getEmail())
+                .password(hash)
+                .role(user.getRole())
+                .regionId(user.getRegionId())
+                .build();
+    }
+
+    private String issue(String sessionId) {
+        String token = jwtProvider.generateRefreshToken(user.getEmail(), user.getId(), sessionId);
+        store.save(RefreshTokenRecord.builder()
+                .tokenHash(TokenDigest.sha256Hex(token))
+                .userId(user.getId())
+                .sessionId(sessionId)
+                .expiresAt(Instant.now().plus(JwtProvider.REFRESH_TOKEN_VALIDITY))
+                .build());
+        return token;
+    }
+
+    private void rotatedLongAgo(String token) {
+        RefreshTokenRecord record = store.find(user.getId(), TokenDigest.sha256Hex(token)).orElseThrow();
+        store.save(record.toBuilder().rotatedAt(Instant.now().minusSeconds(GRACE_SECONDS * 2)).build());
+    }
+
+    private static void writeKey(Path dir, String kid) throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        KeyPair keyPair = generator.generateKeyPair();
+        Files.writeString(dir.resolve(kid + ".private.pem"), pem("PRIVATE KEY", keyPair.getPrivate().getEncoded()));
+        Files.writeString(dir.resolve(kid + ".public.pem"), pem("PUBLIC KEY", keyPair.getPublic().getEncoded()));
+    }
+
+    private static String pem(String type, byte[] der) {
+        return "-----BEGIN " + type + "-----\n"
+                + Base64.getMimeEncoder(64, "\n".getBytes()).encodeToString(der)
+                + "\n-----END " + type + "-----\n";
+    }
+
+    // 트랜잭션 안의 세션 삭제를 커밋 시점까지 미룸 - 롤백되면 삭제도 사라짐
+    private static class CommitOnlyDeletes implements RefreshTokenStore {
+
+        private final RefreshTokenStore delegate;
+
+        CommitOnlyDeletes(RefreshTokenStore delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void save(RefreshTokenRecord record) {
+            delegate.save(record);
+        }
+
+        @Override
+        public Optional<RefreshTokenRecord> find(Long userId, String tokenHash) {
+            return delegate.find(userId, tokenHash);
+        }
+
+        @Override
+        public boolean rotate(RefreshTokenRecord previous, RefreshTokenRecord next, Instant now) {
+            return delegate.rotate(previous, next, now);
+        }
+
+        @Override
+        public int deleteAllBySession(Long userId, String sessionId) {
+            if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+                return delegate.deleteAllBySession(userId, sessionId);
+            }
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    delegate.deleteAllBySession(userId, sessionId);
+                }
+            });
+            return 1;
+        }
+
+        @Override
+        public int deleteAllByUserId(Long userId) {
+            return delegate.deleteAllByUserId(userId);
+        }
+    }
+}
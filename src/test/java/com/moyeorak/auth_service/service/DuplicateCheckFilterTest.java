@@ -0,0 +1,131 @@
+package com.moyeorak.auth_service.service;
+
+import com.moyeorak.auth_service.repository.UserIdentity;
+import com.moyeorak.auth_service.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DuplicateCheckFilterTest {
+
+    private static final int USERS = 2_500;
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final DuplicateCheckFilter filter = new DuplicateCheckFilter(userRepository, true, 10_000, 0.01, 5,
+            new SimpleMeterRegistry());
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("적재 전에는 항상 '있을 수 있음' (DB 확인)")
+    void mightContainEverythingBeforeFirstLoad() {
+        assertTrue(filter.mightContainEmail("nobody@moyeorak.cloud"));
+        assertTrue(filter.mightContainPhone("010-9999-9999"));
+    }
+
+    @Test
+    @DisplayName("재생성 후 모든 사용자가 포함되고 오탐률은 설정 범위 안")
+    void rebuildLoadsAllPages() {
+        when(userRepository.findIdentitiesAfter(anyLong(), any(Pageable.class)))
+                .thenAnswer(invocation -> page(invocation.getArgument(0), invocation.getArgument(1)));
+
+        filter.rebuild();
+
+        for (long id = 1; id <= USERS; id++) {
+            assertTrue(filter.mightContainEmail(email(id)));
+            assertTrue(filter.mightContainPhone(phone(id)));
+        }
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (filter.mightContainEmail("unknown" + i + "@moyeorak.cloud")) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 300, "false positives: " + falsePositives);
+    }
+
+    @Test
+    @DisplayName("재생성 중에 추가된 값은 교체된 새 필터에도 남음")
+    void keepsPutsMadeDuringRebuild() {
+        when(userRepository.findIdentitiesAfter(anyLong(), any(Pageable.class))).thenReturn(List.of());
+        filter.rebuild();
+        when(userRepository.findIdentitiesAfter(anyLong(), any(Pageable.class))).thenAnswer(invocation -> {
+            filter.put("during@moyeorak.cloud", "010-1111-1111");
+            return List.of();
+        });
+
+        filter.rebuild();
+
+        assertTrue(filter.mightContainEmail("during@moyeorak.cloud"));
+        assertTrue(filter.mightContainPhone("010-1111-1111"));
+    }
+
+    @Test
+    @DisplayName("커밋 전에 끝난 재생성에 빠진 값은 커밋 후 다시 추가")
+    void putsAgainAfterCommit() {
+        when(userRepository.findIdentitiesAfter(anyLong(), any(Pageable.class))).thenReturn(List.of());
+        filter.rebuild();
+
+        TransactionSynchronizationManager.initSynchronization();
+        filter.put("signup@moyeorak.cloud", "010-3333-3333");
+        filter.rebuild(); // 아직 커밋 전이라 DB 조회에 없음
+        assertFalse(filter.mightContainEmail("signup@moyeorak.cloud"));
+
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCommit();
+        }
+        assertTrue(filter.mightContainEmail("signup@moyeorak.cloud"));
+        assertTrue(filter.mightContainPhone("010-3333-3333"));
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 가입한 값은 변경분 동기화로 반영")
+    void syncsChangesFromOtherInstances() {
+        when(userRepository.findIdentitiesAfter(anyLong(), any(Pageable.class))).thenReturn(List.of());
+        when(userRepository.findIdentitiesModifiedSince(any()))
+                .thenReturn(List.of(new UserIdentity(7L, "elsewhere@moyeorak.cloud", "010-4444-4444")));
+
+        filter.syncRecentChanges(); // 최초 적재 전에는 건너뜀
+        filter.rebuild();
+        assertFalse(filter.mightContainEmail("elsewhere@moyeorak.cloud"));
+
+        filter.syncRecentChanges();
+        assertTrue(filter.mightContainEmail("elsewhere@moyeorak.cloud"));
+        assertTrue(filter.mightContainPhone("010-4444-4444"));
+    }
+
+    private static List<UserIdentity> page(Long afterId, Pageable pageable) {
+        List<UserIdentity> users = new ArrayList<>();
+        for (long id = afterId + 1; id <= Math.min(afterId + pageable.getPageSize(), USERS); id++) {
+            users.add(new UserIdentity(id, email(id), phone(id)));
+        }
+        return users;
+    }
+
+    private static String email(long id) {
+        return "user" + id + "@moyeorak.cloud";
+    }
+
+    private static String phone(long id) {
+        return "010-" + id;
+    }
+}
@@ -0,0 +1,42 @@
+package com.moyeorak.auth_service.service;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 트랜잭션(= DB 커넥션)을 잡은 채 해시하면 실패하는 PasswordEncoder, 해시 횟수도 셈
+class OutsideTransactionPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    final AtomicInteger hashes = new AtomicInteger();
+
+    OutsideTransactionPasswordEncoder(PasswordEncoder delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        assertNoTransaction();
+        hashes.incrementAndGet();
+        return delegate.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        assertNoTransaction();
+        hashes.incrementAndGet();
+        return delegate.matches(rawPassword, encodedPassword);
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private static void assertNoTransaction() {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new AssertionError("트랜잭션 안에서 비밀번호 해시");
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.moyeorak.auth_service.service;
+
+import com.moyeorak.auth_service.dto.UserDeleteRequestDto;
+import com.moyeorak.auth_service.dto.UserPasswordChangeRequestDto;
+import com.moyeorak.auth_service.dto.UserSignupRequestDto;
+import com.moyeorak.auth_service.entity.User;
+import com.moyeorak.auth_service.repository.UserCache;
+import com.moyeorak.auth_service.repository.UserCredentials;
+import com.moyeorak.auth_service.repository.UserRepository;
+import com.moyeorak.common.exception.BusinessException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 비밀번호 해시는 트랜잭션(DB 커넥션) 밖에서, 비밀번호 갱신은 읽은 해시 그대로일 때만
+class UserServiceImplTest {
+
+    private static final long USER_ID = 1L;
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final UserCache userCache = mock(UserCache.class);
+    private final DuplicateCheckFilter duplicateCheckFilter = mock(DuplicateCheckFilter.class);
+    private final OutsideTransactionPasswordEncoder passwordEncoder =
+            new OutsideTransactionPasswordEncoder(new BCryptPasswordEncoder(4));
+    private final UserService userService = new UserServiceImpl(userRepository, userCache, duplicateCheckFilter,
+            passwordEncoder, new TransactionTemplate(new NoOpTransactionManager()));
+
+    private String currentHash;
+
+    @BeforeEach
+    void setUp() {
+        currentHash = new BCryptPasswordEncoder(4).encode("current-password");
+        when(userRepository.findCredentialsById(USER_ID)).thenReturn(Optional.of(UserCredentials.builder()
+                .id(USER_ID)
+                .email("member@moyeorak.cloud")
+                .password(currentHash)
+                .role(User.Role.USER)
+                .regionId(11L)
+                .build()));
+    }
+
+    @Test
+    @DisplayName("비밀번호 변경: 확인 + 새 해시 두 번만, 둘 다 트랜잭션 밖")
+    void changesPasswordWithTwoHashesOutsideTransaction() {
+        when(userRepository.updatePassword(eq(USER_ID), eq(currentHash), anyString())).thenReturn(1);
+
+        userService.changePassword(USER_ID, changeRequest("current-password", "new-password"));
+
+        assertEquals(2, passwordEncoder.hashes.get());
+        verify(userCache).evict(USER_ID);
+    }
+
+    @Test
+    @DisplayName("비밀번호 변경: 확인 후 다른 요청이 먼저 바꿨으면 덮어쓰지 않고 실패")
+    void rejectsConcurrentlyChangedPassword() {
+        when(userRepository.updatePassword(eq(USER_ID), eq(currentHash), anyString())).thenReturn(0);
+
+        assertThrows(BusinessException.class,
+                () -> userService.changePassword(USER_ID, changeRequest("current-password", "new-password")));
+        verify(userCache, never()).evict(anyLong());
+    }
+
+    @Test
+    @DisplayName("비밀번호 변경: 확인 불일치 / 같은 비밀번호 / 현재 비밀번호 오류는 갱신 없음")
+    void rejectsInvalidChanges() {
+        assertThrows(BusinessException.class, () -> userService.changePassword(USER_ID,
+                new UserPasswordChangeRequestDto("current-password", "new-password", "other-password")));
+        assertEquals(0, passwordEncoder.hashes.get());
+
+        assertThrows(BusinessException.class,
+                () -> userService.changePassword(USER_ID, changeRequest("current-password", "current-password")));
+        assertThrows(BusinessException.class,
+                () -> userService.changePassword(USER_ID, changeRequest("wrong-password", "new-password")));
+
+        verify(userRepository, never()).updatePassword(anyLong(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("비밀번호 확인 / 회원탈퇴의 해시 비교도 트랜잭션 밖")
+    void verifiesPasswordOutsideTransaction() {
+        assertTrue(userService.verifyPassword(USER_ID, "current-password"));
+        assertFalse(userService.verifyPassword(USER_ID, "wrong-password"));
+
+        userService.deleteUser(USER_ID, new UserDeleteRequestDto("current-password", "current-password"));
+
+        assertEquals(3, passwordEncoder.hashes.get());
+        verify(userRepository).deleteById(USER_ID);
+    }
+
+    @Test
+    @DisplayName("회원가입: 해시는 중복 검증 / 저장 트랜잭션 밖")
+    void signsUpWithHashOutsideTransaction() {
+        when(userRepository.saveAndFlush(any(User.class))).thenAnswer(invocation -> {
+            User user = invocation.getArgument(0);
+            ReflectionTestUtils.setField(user, "id", 2L);
+            return user;
+        });
+
+        userService.signup(UserSignupRequestDto.builder()
+                .name("member")
+                .email(" New@moyeorak.cloud ")
+                .password("password-1")
+                .confirmPassword("password-1")
+                .phone("010-1111-2222")
+                .gender(User.Gender.FEMALE)
+                .birth(LocalDate.of(1990, 1, 1))
+                .regionId(11L)
+                .build());
+
+        assertEquals(1, passwordEncoder.hashes.get());
+        verify(duplicateCheckFilter).put("new@moyeorak.cloud", "010-1111-2222");
+        verify(userCache).evict(2L);
+    }
+
+    private static UserPasswordChangeRequestDto changeRequest(String current, String next) {
+        return new UserPasswordChangeRequestDto(current, next, next);
+    }
+}